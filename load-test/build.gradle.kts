@@ -0,0 +1,33 @@
+plugins {
+    java
+    application
+}
+group = "io.github.dfnabiullin.taskmanager"
+version = "1.0.0"
+description = "load-test"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+    implementation("com.fasterxml.jackson.core:jackson-databind:2.19.2")
+    testImplementation(platform("org.junit:junit-bom:5.12.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+application {
+    mainClass = "io.github.dfnabiullin.taskmanager.loadtest.LoadTest"
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
\ No newline at end of file
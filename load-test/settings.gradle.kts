@@ -0,0 +1 @@
+rootProject.name = "load-test"
@@ -0,0 +1,116 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public enum Endpoint {
+    USER_GET("user-get", 25) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return get(fixture.userUrl(), "/api/v1/users/" + fixture.randomUser(random));
+        }
+    },
+    USER_LIST("user-list", 1) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return get(fixture.userUrl(), "/api/v1/users");
+        }
+    },
+    USER_EXISTS("user-exists", 5) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            String uuids = IntStream.range(0, 10)
+                    .mapToObj(i -> "\"" + fixture.randomUser(random) + "\"")
+                    .collect(Collectors.joining(","));
+            return post(fixture.userUrl(), "/api/v1/users/exists", "{\"uuids\":[" + uuids + "]}");
+        }
+    },
+    TASK_GET("task-get", 25) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return get(fixture.taskUrl(), "/api/v1/tasks/" + fixture.randomTask(random));
+        }
+    },
+    TASK_PAGE("task-page", 15) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return get(fixture.taskUrl(), "/api/v1/tasks?assignee=" + fixture.randomUser(random));
+        }
+    },
+    TASK_SEARCH("task-search", 10) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            String query = fixture.randomWord(random) + " " + fixture.randomWord(random);
+            return get(fixture.taskUrl(), "/api/v1/tasks/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8));
+        }
+    },
+    TASK_CREATE("task-create", 10) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return post(fixture.taskUrl(), "/api/v1/tasks", taskBody(fixture, random));
+        }
+    },
+    TASK_PATCH("task-patch", 9) {
+        @Override
+        public HttpRequest request(Fixture fixture, RandomGenerator random) {
+            return HttpRequest.newBuilder(fixture.taskUrl().resolve("/api/v1/tasks/" + fixture.randomTask(random)))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"description\":\"" + description(fixture, random) + "\"}"))
+                    .build();
+        }
+    };
+
+    private final String label;
+    private final int weight;
+
+    Endpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public abstract HttpRequest request(Fixture fixture, RandomGenerator random);
+
+    public static Endpoint fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.label.equals(label.trim().toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint " + label));
+    }
+
+    private static HttpRequest get(URI baseUrl, String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(URI baseUrl, String path, String body) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String taskBody(Fixture fixture, RandomGenerator random) {
+        return "{\"assigneeUuid\":\"" + fixture.randomUser(random) + "\",\"description\":\"" + description(fixture, random) + "\"}";
+    }
+
+    private static String description(Fixture fixture, RandomGenerator random) {
+        return fixture.randomWord(random) + " " + fixture.randomWord(random) + " " + fixture.randomWord(random);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointRecorder {
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+
+    public void recordSuccess(long latencyNanos) {
+        latencies.recordValue(latencyNanos);
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public EndpointReport report(Duration duration) {
+        Histogram histogram = latencies.getIntervalHistogram();
+        return EndpointReport.of(histogram, errors.sumThenReset(), duration);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+
+public record EndpointReport(long count,
+                             long errors,
+                             double throughput,
+                             double p50Millis,
+                             double p90Millis,
+                             double p99Millis,
+                             double p999Millis,
+                             double maxMillis,
+                             String histogram) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static EndpointReport of(Histogram histogram, long errors, Duration duration) {
+        long count = histogram.getTotalCount();
+        return new EndpointReport(
+                count,
+                errors,
+                (count + errors) / (duration.toNanos() / 1_000_000_000.0),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                encode(histogram));
+    }
+
+    public Histogram decodeHistogram() {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(histogram)), 0);
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Malformed histogram", ex);
+        }
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+public record Fixture(URI userUrl, URI taskUrl, List<UUID> users, List<UUID> tasks, List<String> words) {
+    public UUID randomUser(RandomGenerator random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    public UUID randomTask(RandomGenerator random) {
+        return tasks.get(random.nextInt(tasks.size()));
+    }
+
+    public String randomWord(RandomGenerator random) {
+        return words.get(random.nextInt(words.size()));
+    }
+}
\ No newline at end of file
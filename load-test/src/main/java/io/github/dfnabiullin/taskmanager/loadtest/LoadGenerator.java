@@ -0,0 +1,118 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+public class LoadGenerator {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final HttpClient client;
+    private final Fixture fixture;
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+    private final PoolSampler poolSampler;
+    private final Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+    public LoadGenerator(HttpClient client, Fixture fixture, Set<Endpoint> endpoints, PoolSampler poolSampler) {
+        this.client = client;
+        this.fixture = fixture;
+        this.poolSampler = poolSampler;
+        this.endpoints = List.copyOf(endpoints);
+        this.cumulativeWeights = new int[this.endpoints.size()];
+        int total = 0;
+        for (int index = 0; index < this.endpoints.size(); index++) {
+            total += this.endpoints.get(index).weight();
+            cumulativeWeights[index] = total;
+            recorders.put(this.endpoints.get(index), new EndpointRecorder());
+        }
+    }
+
+    public LoadTestReport run(LoadTestOptions options) {
+        String startedAt = Instant.now().toString();
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long recordUntil = recordFrom + options.duration().toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers.execute(() -> poolSampler.run(recordFrom, recordUntil));
+            if (options.model() == WorkloadModel.OPEN) {
+                for (long sequence = 0; ; sequence++) {
+                    long intendedStart = intendedStart(start, sequence, options.rate());
+                    if (intendedStart >= recordUntil) {
+                        break;
+                    }
+                    parkUntil(intendedStart);
+                    workers.execute(() -> send(pick(ThreadLocalRandom.current()), intendedStart, recordFrom, recordUntil));
+                }
+            } else {
+                for (int worker = 0; worker < options.concurrency(); worker++) {
+                    workers.execute(() -> {
+                        long requestStart;
+                        while ((requestStart = System.nanoTime()) < recordUntil) {
+                            send(pick(ThreadLocalRandom.current()), requestStart, recordFrom, recordUntil);
+                        }
+                    });
+                }
+            }
+        }
+        Map<String, EndpointReport> reports = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> reports.put(endpoint.label(), recorder.report(options.duration())));
+        return new LoadTestReport(startedAt, options.model(), options.concurrency(), options.rate(),
+                options.warmup().toSeconds(), options.duration().toSeconds(), reports, poolSampler.report());
+    }
+
+    Endpoint pick(RandomGenerator random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (ticket < cumulativeWeights[index]) {
+                return endpoints.get(index);
+            }
+        }
+        throw new IllegalStateException("Weight " + ticket + " is out of range");
+    }
+
+    static long intendedStart(long start, long sequence, int rate) {
+        return start + sequence * NANOS_PER_SECOND / rate;
+    }
+
+    private void send(Endpoint endpoint, long intendedStart, long recordFrom, long recordUntil) {
+        boolean succeeded;
+        try {
+            HttpResponse<Void> response = client.send(endpoint.request(fixture, ThreadLocalRandom.current()), HttpResponse.BodyHandlers.discarding());
+            succeeded = response.statusCode() / 100 == 2;
+        } catch (IOException ex) {
+            succeeded = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latency = System.nanoTime() - intendedStart;
+        if (intendedStart < recordFrom || intendedStart >= recordUntil) {
+            return;
+        }
+        EndpointRecorder recorder = recorders.get(endpoint);
+        if (succeeded) {
+            recorder.recordSuccess(latency);
+        } else {
+            recorder.recordError();
+        }
+    }
+
+    static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+
+public class LoadTest {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        if (args.length > 0 && args[0].equals("compare")) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: compare <baseline.json> <candidate.json>");
+            }
+            LoadTestReport baseline = objectMapper.readValue(Path.of(args[1]).toFile(), LoadTestReport.class);
+            LoadTestReport candidate = objectMapper.readValue(Path.of(args[2]).toFile(), LoadTestReport.class);
+            System.out.print(LoadTestReport.comparison(baseline, candidate));
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(Arrays.asList(args));
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            System.out.printf("Seeding %d users and %d tasks%n", options.users(), options.tasks());
+            long seedingStart = System.nanoTime();
+            Fixture fixture = new Seeder(client, objectMapper).seed(options);
+            System.out.printf("Seeded in %d ms%n", Duration.ofNanos(System.nanoTime() - seedingStart).toMillis());
+            System.out.printf("Running %s model for %s after %s warmup%n", options.model(), options.duration(), options.warmup());
+            PoolSampler poolSampler = new PoolSampler(client, objectMapper,
+                    new TreeMap<>(Map.of("user-service", options.userUrl(), "task-service", options.taskUrl())), options.poolInterval());
+            LoadTestReport report = new LoadGenerator(client, fixture, options.endpoints(), poolSampler).run(options);
+            System.out.print(report.table());
+            Path parent = options.report().toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            objectMapper.writeValue(options.report().toFile(), report);
+            System.out.println("Report written to " + options.report().toAbsolutePath());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record LoadTestOptions(URI userUrl,
+                              URI taskUrl,
+                              WorkloadModel model,
+                              int concurrency,
+                              int rate,
+                              Duration warmup,
+                              Duration duration,
+                              int users,
+                              int tasks,
+                              Set<Endpoint> endpoints,
+                              Duration poolInterval,
+                              Path report) {
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("user-url", "http://localhost:8080"),
+            Map.entry("task-url", "http://localhost:8081"),
+            Map.entry("model", "closed"),
+            Map.entry("concurrency", "64"),
+            Map.entry("rate", "500"),
+            Map.entry("warmup", "30s"),
+            Map.entry("duration", "60s"),
+            Map.entry("users", "1000"),
+            Map.entry("tasks", "10000"),
+            Map.entry("endpoints", "all"),
+            Map.entry("pool-interval", "1s"),
+            Map.entry("report", "build/reports/load-test/report.json"));
+
+    public static LoadTestOptions parse(List<String> args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        Duration duration = parseDuration(values.get("duration"));
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("--duration must be positive but was " + duration);
+        }
+        Duration poolInterval = parseDuration(values.get("pool-interval"));
+        if (poolInterval.isNegative() || poolInterval.isZero()) {
+            throw new IllegalArgumentException("--pool-interval must be positive but was " + poolInterval);
+        }
+        return new LoadTestOptions(
+                URI.create(values.get("user-url")),
+                URI.create(values.get("task-url")),
+                WorkloadModel.valueOf(values.get("model").toUpperCase(Locale.ROOT)),
+                positive(values, "concurrency"),
+                positive(values, "rate"),
+                parseDuration(values.get("warmup")),
+                duration,
+                positive(values, "users"),
+                positive(values, "tasks"),
+                parseEndpoints(values.get("endpoints")),
+                poolInterval,
+                Path.of(values.get("report")));
+    }
+
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            case 'm' -> Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+            default -> Duration.parse(value);
+        };
+    }
+
+    static Set<Endpoint> parseEndpoints(String value) {
+        if (value.equals("all")) {
+            return EnumSet.allOf(Endpoint.class);
+        }
+        return Arrays.stream(value.split(","))
+                .map(Endpoint::fromLabel)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Endpoint.class)));
+    }
+
+    private static int positive(Map<String, String> values, String name) {
+        int value = Integer.parseInt(values.get(name));
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive but was " + value);
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+public record LoadTestReport(String startedAt,
+                             WorkloadModel model,
+                             int concurrency,
+                             int rate,
+                             long warmupSeconds,
+                             long durationSeconds,
+                             Map<String, EndpointReport> endpoints,
+                             Map<String, PoolReport> pools) {
+    private static final String ROW = "%-12s %10s %8s %10s %10s %10s %10s %10s %10s%n";
+    private static final String POOL_ROW = "%-12s %10s %12s %12s %12s %12s%n";
+
+    public LoadTestReport {
+        pools = pools == null ? Map.of() : pools;
+    }
+
+    public String table() {
+        StringBuilder table = new StringBuilder()
+                .append(String.format(Locale.ROOT, "%s model, %s, %ds after %ds warmup%n", model.name().toLowerCase(Locale.ROOT),
+                        model == WorkloadModel.OPEN ? rate + " req/s" : concurrency + " workers", durationSeconds, warmupSeconds))
+                .append(String.format(Locale.ROOT, ROW, "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((label, report) -> table.append(String.format(Locale.ROOT, ROW, label,
+                report.count(), report.errors(), decimal(report.throughput()), decimal(report.p50Millis()), decimal(report.p90Millis()),
+                decimal(report.p99Millis()), decimal(report.p999Millis()), decimal(report.maxMillis()))));
+        if (!pools.isEmpty()) {
+            table.append(String.format(Locale.ROOT, POOL_ROW, "pool", "samples", "active avg", "active max", "pending avg", "pending max"));
+            pools.forEach((service, report) -> table.append(String.format(Locale.ROOT, POOL_ROW, service,
+                    report.samples(), decimal(report.activeAvg()), decimal(report.activeMax()), decimal(report.pendingAvg()), decimal(report.pendingMax()))));
+        }
+        return table.toString();
+    }
+
+    public static String comparison(LoadTestReport baseline, LoadTestReport candidate) {
+        String row = "%-12s %24s %24s %24s %24s%n";
+        StringBuilder table = new StringBuilder()
+                .append(String.format(Locale.ROOT, row, "endpoint", "req/s", "p50 ms", "p99 ms", "p99.9 ms"));
+        Map<String, EndpointReport> labels = new LinkedHashMap<>(baseline.endpoints());
+        labels.putAll(candidate.endpoints());
+        for (String label : labels.keySet()) {
+            EndpointReport before = baseline.endpoints().get(label);
+            EndpointReport after = candidate.endpoints().get(label);
+            if (before == null || after == null) {
+                table.append(String.format(Locale.ROOT, "%-12s only in %s%n", label, before == null ? "candidate" : "baseline"));
+                continue;
+            }
+            table.append(String.format(Locale.ROOT, row, label,
+                    delta(before, after, EndpointReport::throughput),
+                    delta(before, after, EndpointReport::p50Millis),
+                    delta(before, after, EndpointReport::p99Millis),
+                    delta(before, after, EndpointReport::p999Millis)));
+        }
+        if (!baseline.pools().isEmpty() && !candidate.pools().isEmpty()) {
+            table.append(String.format(Locale.ROOT, row, "pool", "active avg", "active max", "pending avg", "pending max"));
+        }
+        for (Map.Entry<String, PoolReport> pool : candidate.pools().entrySet()) {
+            PoolReport before = baseline.pools().get(pool.getKey());
+            if (before == null) {
+                continue;
+            }
+            PoolReport after = pool.getValue();
+            table.append(String.format(Locale.ROOT, row, pool.getKey(),
+                    delta(before, after, PoolReport::activeAvg),
+                    delta(before, after, PoolReport::activeMax),
+                    delta(before, after, PoolReport::pendingAvg),
+                    delta(before, after, PoolReport::pendingMax)));
+        }
+        return table.toString();
+    }
+
+    static <T> String delta(T before, T after, ToDoubleFunction<T> metric) {
+        double from = metric.applyAsDouble(before);
+        double to = metric.applyAsDouble(after);
+        String change = from == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (to - from) * 100 / from);
+        return decimal(from) + " -> " + decimal(to) + " (" + change + ")";
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+public class PoolRecorder {
+    private long samples;
+    private double activeSum;
+    private double activeMax;
+    private double pendingSum;
+    private double pendingMax;
+
+    public void record(double active, double pending) {
+        samples++;
+        activeSum += active;
+        activeMax = Math.max(activeMax, active);
+        pendingSum += pending;
+        pendingMax = Math.max(pendingMax, pending);
+    }
+
+    public PoolReport report() {
+        return samples == 0
+                ? new PoolReport(0, 0, 0, 0, 0)
+                : new PoolReport(samples, activeSum / samples, activeMax, pendingSum / samples, pendingMax);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+public record PoolReport(long samples,
+                         double activeAvg,
+                         double activeMax,
+                         double pendingAvg,
+                         double pendingMax) {
+}
\ No newline at end of file
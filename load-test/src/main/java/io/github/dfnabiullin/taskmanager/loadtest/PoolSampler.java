@@ -0,0 +1,81 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PoolSampler {
+    static final String ACTIVE_METRIC = "hikaricp.connections.active";
+    static final String PENDING_METRIC = "hikaricp.connections.pending";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final Map<String, URI> services;
+    private final Duration interval;
+    private final Map<String, PoolRecorder> recorders = new LinkedHashMap<>();
+
+    public PoolSampler(HttpClient client, ObjectMapper objectMapper, Map<String, URI> services, Duration interval) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.services = services;
+        this.interval = interval;
+        services.keySet().forEach(service -> recorders.put(service, new PoolRecorder()));
+    }
+
+    public void run(long recordFrom, long recordUntil) {
+        try {
+            for (long next = recordFrom; next < recordUntil; next += interval.toNanos()) {
+                LoadGenerator.parkUntil(next);
+                for (Map.Entry<String, URI> service : services.entrySet()) {
+                    sample(service.getKey(), service.getValue());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Map<String, PoolReport> report() {
+        Map<String, PoolReport> reports = new LinkedHashMap<>();
+        recorders.forEach((service, recorder) -> reports.put(service, recorder.report()));
+        return reports;
+    }
+
+    void record(String service, JsonNode active, JsonNode pending) {
+        recorders.get(service).record(value(active), value(pending));
+    }
+
+    static double value(JsonNode metric) {
+        for (JsonNode measurement : metric.path("measurements")) {
+            if (measurement.path("statistic").asText().equals("VALUE")) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        throw new IllegalStateException("Metric " + metric.path("name").asText() + " has no VALUE measurement");
+    }
+
+    private void sample(String service, URI url) throws InterruptedException {
+        try {
+            record(service, fetch(url, ACTIVE_METRIC), fetch(url, PENDING_METRIC));
+        } catch (IOException | IllegalStateException ex) {
+            System.err.printf("Skipping %s pool sample: %s%n", service, ex.getMessage());
+        }
+    }
+
+    private JsonNode fetch(URI url, String metric) throws IOException, InterruptedException {
+        URI uri = url.resolve("/actuator/metrics/" + metric);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Seeder {
+    static final List<String> WORDS = List.of("invoice", "deploy", "review", "backup", "migrate", "release", "audit",
+            "refactor", "benchmark", "rollback", "onboarding", "report", "schema", "payment", "incident", "dashboard");
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_CONCURRENT_REQUESTS = 32;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+
+    public Seeder(HttpClient client, ObjectMapper objectMapper) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    public Fixture seed(LoadTestOptions options) throws InterruptedException {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<UUID> users = submitAll(options.users(), index -> createUser(options.userUrl(), run + "-" + index));
+        int batches = (options.tasks() + BATCH_SIZE - 1) / BATCH_SIZE;
+        List<UUID> tasks = submitAll(batches, batch -> createTasks(options.taskUrl(), users,
+                Math.min(BATCH_SIZE, options.tasks() - batch * BATCH_SIZE))).stream()
+                .flatMap(List::stream)
+                .toList();
+        return new Fixture(options.userUrl(), options.taskUrl(), users, tasks, WORDS);
+    }
+
+    private UUID createUser(URI userUrl, String name) throws IOException, InterruptedException {
+        JsonNode user = post(userUrl.resolve("/api/v1/users"), Map.of("name", "load-test " + name, "email", name + "@load-test.example.com"));
+        return UUID.fromString(user.get("uuid").asText());
+    }
+
+    private List<UUID> createTasks(URI taskUrl, List<UUID> users, int count) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, String>> body = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            body.add(Map.of(
+                    "assigneeUuid", users.get(random.nextInt(users.size())).toString(),
+                    "description", WORDS.get(random.nextInt(WORDS.size())) + " " + WORDS.get(random.nextInt(WORDS.size())) + " " + WORDS.get(random.nextInt(WORDS.size()))));
+        }
+        List<UUID> tasks = new ArrayList<>(count);
+        for (JsonNode item : post(taskUrl.resolve("/api/v1/tasks/batch"), body)) {
+            if (item.get("status").asInt() != 201) {
+                throw new IllegalStateException("Task seeding rejected an item: " + item.get("detail").asText());
+            }
+            tasks.add(UUID.fromString(item.get("task").get("uuid").asText()));
+        }
+        return tasks;
+    }
+
+    private JsonNode post(URI uri, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("POST " + uri + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static <T> List<T> submitAll(int count, IndexedCall<T> call) throws InterruptedException {
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+        List<Future<T>> futures = new ArrayList<>(count);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < count; index++) {
+                int current = index;
+                futures.add(executor.submit((Callable<T>) () -> {
+                    permits.acquire();
+                    try {
+                        return call.call(current);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            List<T> results = new ArrayList<>(count);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Seeding failed", ex.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedCall<T> {
+        T call(int index) throws Exception;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+public enum WorkloadModel {
+    CLOSED,
+    OPEN
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void intendedStart_shouldSpaceRequestsEvenlyAtTheRequestedRate() {
+        assertEquals(1_000L, LoadGenerator.intendedStart(1_000L, 0, 400));
+        assertEquals(1_000L + 2_500_000L, LoadGenerator.intendedStart(1_000L, 1, 400));
+        assertEquals(1_000L + 1_000_000_000L, LoadGenerator.intendedStart(1_000L, 400, 400));
+    }
+
+    @Test
+    void intendedStart_whenRateDoesNotDivideSecond_shouldNotDrift() {
+        assertEquals(1_000_000_000L, LoadGenerator.intendedStart(0, 3, 3));
+        assertEquals(60_000_000_000L, LoadGenerator.intendedStart(0, 180, 3));
+    }
+
+    @Test
+    void pick_shouldOnlyReturnSelectedEndpointsInProportionToWeight() {
+        final var generator = new LoadGenerator(null, null, EnumSet.of(Endpoint.USER_LIST, Endpoint.USER_GET), null);
+        final RandomGenerator random = new SplittableRandom(42);
+        final var picks = new EnumMap<Endpoint, Integer>(Endpoint.class);
+
+        for (int i = 0; i < 26_000; i++) {
+            picks.merge(generator.pick(random), 1, Integer::sum);
+        }
+
+        assertEquals(EnumSet.of(Endpoint.USER_LIST, Endpoint.USER_GET), picks.keySet());
+        assertEquals(25.0, (double) picks.get(Endpoint.USER_GET) / picks.get(Endpoint.USER_LIST), 5.0);
+    }
+}
\ No newline at end of file
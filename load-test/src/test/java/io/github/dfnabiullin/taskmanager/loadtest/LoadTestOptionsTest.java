@@ -0,0 +1,80 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestOptionsTest {
+
+    @Test
+    void parse_whenNoArguments_shouldUseDefaults() {
+        final var options = LoadTestOptions.parse(List.of());
+
+        assertEquals(URI.create("http://localhost:8080"), options.userUrl());
+        assertEquals(URI.create("http://localhost:8081"), options.taskUrl());
+        assertEquals(WorkloadModel.CLOSED, options.model());
+        assertEquals(64, options.concurrency());
+        assertEquals(Duration.ofSeconds(30), options.warmup());
+        assertEquals(Duration.ofSeconds(60), options.duration());
+        assertEquals(EnumSet.allOf(Endpoint.class), options.endpoints());
+        assertEquals(Duration.ofSeconds(1), options.poolInterval());
+        assertEquals(Path.of("build/reports/load-test/report.json"), options.report());
+    }
+
+    @Test
+    void parse_whenArgumentsGiven_shouldOverrideDefaults() {
+        final var options = LoadTestOptions.parse(List.of("--model=open", "--rate=2000", "--duration=2m",
+                "--warmup=0s", "--endpoints=user-get,task-search", "--report=baseline.json"));
+
+        assertEquals(WorkloadModel.OPEN, options.model());
+        assertEquals(2000, options.rate());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(Duration.ZERO, options.warmup());
+        assertEquals(EnumSet.of(Endpoint.USER_GET, Endpoint.TASK_SEARCH), options.endpoints());
+        assertEquals(Path.of("baseline.json"), options.report());
+    }
+
+    @Test
+    void parse_whenOptionUnknown_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--threads=8")));
+    }
+
+    @Test
+    void parse_whenArgumentHasNoValue_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--rate")));
+    }
+
+    @Test
+    void parse_whenConcurrencyNotPositive_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--concurrency=0")));
+    }
+
+    @Test
+    void parse_whenDurationZero_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--duration=0s")));
+    }
+
+    @Test
+    void parse_whenPoolIntervalZero_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--pool-interval=0ms")));
+    }
+
+    @Test
+    void parse_whenEndpointUnknown_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(List.of("--endpoints=task-delete")));
+    }
+
+    @Test
+    void parseDuration_shouldAcceptSuffixesAndIsoFormat() {
+        assertEquals(Duration.ofMillis(250), LoadTestOptions.parseDuration("250ms"));
+        assertEquals(Duration.ofSeconds(45), LoadTestOptions.parseDuration("45s"));
+        assertEquals(Duration.ofMinutes(5), LoadTestOptions.parseDuration("5m"));
+        assertEquals(Duration.ofSeconds(90), LoadTestOptions.parseDuration("PT1M30S"));
+    }
+}
\ No newline at end of file
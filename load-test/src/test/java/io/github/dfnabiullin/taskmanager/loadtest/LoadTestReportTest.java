@@ -0,0 +1,103 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestReportTest {
+
+    @Test
+    void endpointReportOf_shouldComputeThroughputAndPercentilesInMillis() {
+        final var histogram = new Histogram(3);
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.recordValue(millis * 1_000_000);
+        }
+
+        final var report = EndpointReport.of(histogram, 10, Duration.ofSeconds(10));
+
+        assertEquals(100, report.count());
+        assertEquals(10, report.errors());
+        assertEquals(11.0, report.throughput(), 0.001);
+        assertEquals(50.0, report.p50Millis(), 0.1);
+        assertEquals(99.0, report.p99Millis(), 0.1);
+        assertEquals(100.0, report.maxMillis(), 0.1);
+        assertEquals(histogram.getTotalCount(), report.decodeHistogram().getTotalCount());
+        assertEquals(histogram.getMaxValue(), report.decodeHistogram().getMaxValue());
+    }
+
+    @Test
+    void report_shouldSurviveJsonRoundTrip() throws Exception {
+        final var objectMapper = new ObjectMapper();
+        final var histogram = new Histogram(3);
+        histogram.recordValue(2_000_000);
+        final var report = new LoadTestReport("2026-01-01T00:00:00Z", WorkloadModel.OPEN, 64, 500, 30, 60,
+                Map.of("task-get", EndpointReport.of(histogram, 0, Duration.ofSeconds(60))),
+                Map.of("task-service", new PoolReport(60, 4.5, 10.0, 0.5, 3.0)));
+
+        final var result = objectMapper.readValue(objectMapper.writeValueAsBytes(report), LoadTestReport.class);
+
+        assertEquals(report, result);
+    }
+
+    @Test
+    void comparison_shouldShowRelativeChangePerEndpoint() {
+        final var before = new EndpointReport(1000, 0, 100.0, 4.0, 6.0, 10.0, 20.0, 30.0, "");
+        final var after = new EndpointReport(1500, 0, 150.0, 2.0, 3.0, 5.0, 10.0, 15.0, "");
+        final var baseline = new LoadTestReport("a", WorkloadModel.CLOSED, 64, 500, 30, 60, Map.of("task-get", before, "user-get", before), Map.of());
+        final var candidate = new LoadTestReport("b", WorkloadModel.CLOSED, 64, 500, 30, 60, Map.of("task-get", after), Map.of());
+
+        final var result = LoadTestReport.comparison(baseline, candidate);
+
+        assertTrue(result.contains("100.00 -> 150.00 (+50.0%)"));
+        assertTrue(result.contains("10.00 -> 5.00 (-50.0%)"));
+        assertTrue(result.contains("user-get     only in baseline"));
+    }
+
+    @Test
+    void report_whenPoolsAreMissingFromJson_shouldReadEmptyPools() throws Exception {
+        final var objectMapper = new ObjectMapper();
+        final var json = "{\"startedAt\":\"a\",\"model\":\"CLOSED\",\"concurrency\":64,\"rate\":500,\"warmupSeconds\":30,\"durationSeconds\":60,\"endpoints\":{}}";
+
+        final var result = objectMapper.readValue(json, LoadTestReport.class);
+
+        assertEquals(Map.of(), result.pools());
+    }
+
+    @Test
+    void comparison_shouldShowPoolOccupancyChangePerService() {
+        final var endpoint = new EndpointReport(1000, 0, 100.0, 4.0, 6.0, 10.0, 20.0, 30.0, "");
+        final var baseline = new LoadTestReport("a", WorkloadModel.CLOSED, 64, 500, 30, 60, Map.of("task-get", endpoint),
+                Map.of("task-service", new PoolReport(60, 10.0, 10.0, 40.0, 54.0)));
+        final var candidate = new LoadTestReport("b", WorkloadModel.CLOSED, 64, 500, 30, 60, Map.of("task-get", endpoint),
+                Map.of("task-service", new PoolReport(60, 2.0, 5.0, 0.0, 0.0)));
+
+        final var result = LoadTestReport.comparison(baseline, candidate);
+
+        assertTrue(result.contains("pending avg"));
+        assertTrue(result.contains("10.00 -> 2.00 (-80.0%)"));
+        assertTrue(result.contains("54.00 -> 0.00 (-100.0%)"));
+    }
+
+    @Test
+    void table_shouldListPoolOccupancyPerService() {
+        final var report = new LoadTestReport("a", WorkloadModel.CLOSED, 64, 500, 30, 60, Map.of(),
+                Map.of("user-service", new PoolReport(30, 1.5, 4.0, 0.0, 0.0)));
+
+        final var result = report.table();
+
+        assertTrue(result.contains("user-service         30         1.50         4.00         0.00         0.00"));
+    }
+
+    @Test
+    void delta_whenBaselineZero_shouldNotDivide() {
+        final var before = new EndpointReport(0, 0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, "");
+        final var after = new EndpointReport(1, 0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, "");
+
+        assertEquals("0.00 -> 1.00 (n/a)", LoadTestReport.delta(before, after, EndpointReport::throughput));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.github.dfnabiullin.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoolSamplerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void value_shouldReadValueMeasurementOfActuatorMetric() throws Exception {
+        final var metric = objectMapper.readTree("""
+                {"name":"hikaricp.connections.active","measurements":[{"statistic":"VALUE","value":7.0}],
+                 "availableTags":[{"tag":"pool","values":["HikariPool-1"]}]}""");
+
+        assertEquals(7.0, PoolSampler.value(metric));
+    }
+
+    @Test
+    void value_whenMetricHasNoValueMeasurement_shouldThrowIllegalStateException() throws Exception {
+        final var metric = objectMapper.readTree("""
+                {"name":"hikaricp.connections.active","measurements":[]}""");
+
+        assertThrows(IllegalStateException.class, () -> PoolSampler.value(metric));
+    }
+
+    @Test
+    void report_shouldAggregateAverageAndMaxPerService() throws Exception {
+        final var sampler = new PoolSampler(null, objectMapper, Map.of("task-service", URI.create("http://localhost:8081")), Duration.ofSeconds(1));
+
+        sampler.record("task-service", gauge(2.0), gauge(0.0));
+        sampler.record("task-service", gauge(10.0), gauge(6.0));
+
+        assertEquals(Map.of("task-service", new PoolReport(2, 6.0, 10.0, 3.0, 6.0)), sampler.report());
+    }
+
+    @Test
+    void report_whenNothingSampled_shouldReturnZeroSamples() {
+        final var sampler = new PoolSampler(null, objectMapper, Map.of("user-service", URI.create("http://localhost:8080")), Duration.ofSeconds(1));
+
+        assertEquals(Map.of("user-service", new PoolReport(0, 0, 0, 0, 0)), sampler.report());
+    }
+
+    private JsonNode gauge(double value) throws Exception {
+        return objectMapper.readTree("{\"measurements\":[{\"statistic\":\"VALUE\",\"value\":" + value + "}]}");
+    }
+}
\ No newline at end of file
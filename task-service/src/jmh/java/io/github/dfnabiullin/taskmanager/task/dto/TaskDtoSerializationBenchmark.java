@@ -0,0 +1,57 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskDtoSerializationBenchmark {
+    @Param({"1", "50", "500"})
+    private int pageSize;
+
+    private ObjectWriter taskWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader requestReader;
+    private TaskResponseDto taskResponseDto;
+    private TaskPageResponseDto taskPageResponseDto;
+    private byte[] taskRequestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        taskWriter = objectMapper.writerFor(TaskResponseDto.class);
+        pageWriter = objectMapper.writerFor(TaskPageResponseDto.class);
+        requestReader = objectMapper.readerFor(TaskRequestDto.class);
+        taskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
+        List<TaskResponseDto> items = IntStream.range(0, pageSize)
+                .mapToObj(i -> new TaskResponseDto(new UUID(0L, i), UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum."))
+                .toList();
+        taskPageResponseDto = new TaskPageResponseDto(items, "AAAAAAAAAAAAAAAAAAAAAA");
+        taskRequestJson = objectMapper.writeValueAsBytes(new TaskRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum."));
+    }
+
+    @Benchmark
+    public byte[] writeTask() throws IOException {
+        return taskWriter.writeValueAsBytes(taskResponseDto);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws IOException {
+        return pageWriter.writeValueAsBytes(taskPageResponseDto);
+    }
+
+    @Benchmark
+    public TaskRequestDto readTaskRequest() throws IOException {
+        return requestReader.readValue(taskRequestJson);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package io.github.dfnabiullin.taskmanager.task.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.ProblemDetail;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskExceptionHandlerBenchmark {
+    @Param({"en", "ru"})
+    private String language;
+
+    private TaskExceptionHandler handler;
+    private Locale locale;
+    private TaskNotFoundException taskNotFoundException;
+    private UserValidationException userValidationException;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        handler = new TaskExceptionHandler(messageSource);
+        locale = Locale.of(language);
+        taskNotFoundException = new TaskNotFoundException(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        userValidationException = new UserValidationException(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+    }
+
+    @Benchmark
+    public ProblemDetail handleTaskNotFoundException() {
+        return handler.handleTaskNotFoundException(taskNotFoundException, locale);
+    }
+
+    @Benchmark
+    public ProblemDetail handleUserValidationException() {
+        return handler.handleUserValidationException(userValidationException, locale);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package io.github.dfnabiullin.taskmanager.task.mapper;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import io.github.dfnabiullin.taskmanager.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+    private final TaskMapper mapper = new TaskMapperImpl();
+    private Task task;
+    private TaskRequestDto taskRequestDto;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        task.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        task.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
+        taskRequestDto = new TaskRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
+    }
+
+    @Benchmark
+    public TaskResponseDto toResponseDto() {
+        return mapper.toResponseDto(task);
+    }
+
+    @Benchmark
+    public Task fromRequestDto() {
+        return mapper.fromRequestDto(taskRequestDto);
+    }
+}
\ No newline at end of file
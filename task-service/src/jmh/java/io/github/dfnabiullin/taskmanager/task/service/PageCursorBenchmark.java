@@ -0,0 +1,24 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageCursorBenchmark {
+    private final UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+    private final String cursor = PageCursor.encode(uuid);
+
+    @Benchmark
+    public String encode() {
+        return PageCursor.encode(uuid);
+    }
+
+    @Benchmark
+    public UUID decode() {
+        return PageCursor.decode(cursor);
+    }
+}
\ No newline at end of file
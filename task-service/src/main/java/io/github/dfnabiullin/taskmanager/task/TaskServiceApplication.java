@@ -3,10 +3,14 @@ package io.github.dfnabiullin.taskmanager.task;
 import io.github.dfnabiullin.taskmanager.task.client.UserClient;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableFeignClients(basePackageClasses = UserClient.class)
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class TaskServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskServiceApplication.class, args);
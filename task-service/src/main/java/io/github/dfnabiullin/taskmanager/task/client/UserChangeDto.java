@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.client;
+
+import java.util.UUID;
+
+public record UserChangeDto(UUID uuid, UserChangeType type) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.client;
+
+import java.util.List;
+
+public record UserChangePageResponseDto(List<UserChangeDto> changes, String next) {
+}
\ No newline at end of file
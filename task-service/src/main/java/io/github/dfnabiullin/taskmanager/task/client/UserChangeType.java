@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.client;
+
+public enum UserChangeType {
+    CREATED,
+    DELETED
+}
\ No newline at end of file
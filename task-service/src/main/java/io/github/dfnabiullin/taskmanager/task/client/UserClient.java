@@ -3,11 +3,22 @@ package io.github.dfnabiullin.taskmanager.task.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.UUID;
 
 @FeignClient(name = "user-service", url = "${application.config.user-url}", path = "/api/v1/users")
 public interface UserClient {
+    int MAX_EXISTS_BATCH_SIZE = 1000;
+
     @GetMapping("/{uuid}")
     void checkUserExists(@PathVariable("uuid") UUID uuid);
+
+    @PostMapping("/exists")
+    UserExistsResponseDto findExistingUsers(@RequestBody UserExistsRequestDto userExistsRequestDto);
+
+    @GetMapping("/changes")
+    UserChangePageResponseDto findChanges(@RequestParam(value = "after", required = false) String after, @RequestParam("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.client;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record UserExistsRequestDto(Set<UUID> uuids) {
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.client;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record UserExistsResponseDto(Set<UUID> existing) {
+}
\ No newline at end of file
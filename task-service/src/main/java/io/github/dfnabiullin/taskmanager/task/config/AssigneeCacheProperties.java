@@ -0,0 +1,9 @@
+package io.github.dfnabiullin.taskmanager.task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.config.assignee-cache")
+public record AssigneeCacheProperties(long maximumSize, Duration positiveTtl, Duration negativeTtl) {
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "application.config.batch")
+public record BatchProperties(int maxItems, int chunkSize) {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.github.dfnabiullin.taskmanager.task.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+    public static final String ASSIGNEES_CACHE = "assignees";
+
+    @Bean
+    public CacheManager cacheManager(AssigneeCacheProperties assigneeCacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ASSIGNEES_CACHE, Caffeine.newBuilder()
+                .maximumSize(assigneeCacheProperties.maximumSize())
+                .expireAfter(Expiry.writing((Object assigneeUuid, Object exists) -> Boolean.TRUE.equals(exists)
+                        ? assigneeCacheProperties.positiveTtl()
+                        : assigneeCacheProperties.negativeTtl()))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
\ No newline at end of file
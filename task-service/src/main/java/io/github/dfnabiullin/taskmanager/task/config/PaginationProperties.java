@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "application.config.pagination")
+public record PaginationProperties(int defaultSize, int maxSize) {
+    public int resolvePageSize(Integer limit) {
+        return limit == null ? defaultSize : Math.clamp(limit, 1, maxSize);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.dfnabiullin.taskmanager.task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.config.user-directory")
+public record UserDirectoryProperties(boolean enabled, Duration maxStaleness, Duration maxOutageStaleness, Duration fullResyncInterval, int pageSize) {
+}
\ No newline at end of file
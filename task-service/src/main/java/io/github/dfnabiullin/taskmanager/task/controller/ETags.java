@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.task.controller;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ETags {
+    static final long UNMATCHABLE_VERSION = -1L;
+    private static final Pattern VERSION_TAG = Pattern.compile("(?:W/)?\"(\\d{1,18})\"");
+    private static final Pattern STRONG_VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
+    private ETags() {
+    }
+
+    static String format(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean matchesAny(String header, long version) {
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        for (String tag : header.split(",")) {
+            Matcher matcher = VERSION_TAG.matcher(tag.trim());
+            if (matcher.matches() && Long.parseLong(matcher.group(1)) == version) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Matcher matcher = STRONG_VERSION_TAG.matcher(ifMatch.trim());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : UNMATCHABLE_VERSION;
+    }
+}
\ No newline at end of file
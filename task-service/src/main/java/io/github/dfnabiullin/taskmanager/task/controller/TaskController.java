@@ -1,16 +1,26 @@
 package io.github.dfnabiullin.taskmanager.task.controller;
 
+import io.github.dfnabiullin.taskmanager.task.dto.TaskBatchItemResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskPageResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskPatchRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskRequestDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
 import io.github.dfnabiullin.taskmanager.task.service.TaskService;
+import io.github.dfnabiullin.taskmanager.task.service.Versioned;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,44 +35,92 @@ public class TaskController {
     @Operation(summary = "Creating a new task")
     @ApiResponse(responseCode = "201", description = "The task was successfully created")
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public TaskResponseDto createTask(@RequestBody @Valid TaskRequestDto taskRequestDto) {
-        return service.createTask(taskRequestDto);
+    public ResponseEntity<TaskResponseDto> createTask(@RequestBody @Valid TaskRequestDto taskRequestDto) {
+        return withETag(HttpStatus.CREATED, service.createTask(taskRequestDto));
+    }
+
+    @Operation(summary = "Creating tasks in bulk")
+    @ApiResponse(responseCode = "200", description = "The batch was processed, every item carries its own status")
+    @PostMapping("/batch")
+    public List<TaskBatchItemResponseDto> createTasks(@RequestBody List<TaskRequestDto> taskRequestDtos) {
+        return service.createTasks(taskRequestDtos);
     }
 
     @Operation(summary = "Getting a task by UUID")
     @ApiResponse(responseCode = "200", description = "The task was found")
+    @ApiResponse(responseCode = "304", description = "The task has not changed since the version in If-None-Match")
     @GetMapping("/{uuid}")
-    public TaskResponseDto getTaskByUuid(@PathVariable UUID uuid) {
-        return service.getTaskByUuid(uuid);
+    public ResponseEntity<TaskResponseDto> getTaskByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = service.getTaskVersion(uuid);
+            if (ETags.matchesAny(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.format(version)).build();
+            }
+        }
+        return withETag(HttpStatus.OK, service.getTaskByUuid(uuid));
     }
 
-    @Operation(summary = "Getting a list of all tasks")
-    @ApiResponse(responseCode = "200", description = "The task was found")
+    @Operation(summary = "Getting a page of tasks, optionally filtered by assignee")
+    @ApiResponse(responseCode = "200", description = "The page of tasks was found")
     @GetMapping
-    public List<TaskResponseDto> getAllTasks() {
-        return service.getAllTasks();
+    public TaskPageResponseDto getAllTasks(@RequestParam(required = false) UUID assignee, @RequestParam(defaultValue = "false") boolean unassigned, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return service.getAllTasks(assignee, unassigned, cursor, limit);
+    }
+
+    @Operation(summary = "Searching tasks by description, best matches first")
+    @ApiResponse(responseCode = "200", description = "The page of matching tasks was found")
+    @GetMapping("/search")
+    public TaskPageResponseDto searchTasks(@RequestParam String q, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return service.searchTasks(q, cursor, limit);
+    }
+
+    @Operation(summary = "Reading the feed of created, updated and deleted tasks")
+    @ApiResponse(responseCode = "200", description = "The changes after the given position were found")
+    @GetMapping("/changes")
+    public TaskChangePageResponseDto findChanges(@RequestParam(required = false) String after, @RequestParam(defaultValue = "1000") int limit) {
+        return service.findChanges(after, limit);
+    }
+
+    @Operation(summary = "Exporting all tasks as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "The tasks are streamed one JSON object per line")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(service::exportTasks);
     }
 
     @Operation(summary = "Full task update")
     @ApiResponse(responseCode = "200", description = "The task has been successfully updated")
+    @ApiResponse(responseCode = "412", description = "The task has changed since the version in If-Match")
     @PutMapping("/{uuid}")
-    public TaskResponseDto putTaskByUuid(@PathVariable UUID uuid, @RequestBody @Valid TaskRequestDto taskRequestDto) {
-        return service.putTaskByUuid(uuid, taskRequestDto);
+    public ResponseEntity<TaskResponseDto> putTaskByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody @Valid TaskRequestDto taskRequestDto) {
+        return withETag(HttpStatus.OK, service.putTaskByUuid(uuid, ETags.expectedVersion(ifMatch), taskRequestDto));
     }
 
     @Operation(summary = "Partial task update")
     @ApiResponse(responseCode = "200", description = "The task has been partially updated successfully")
+    @ApiResponse(responseCode = "412", description = "The task has changed since the version in If-Match")
     @PatchMapping("/{uuid}")
-    public TaskResponseDto patchTaskByUuid(@PathVariable UUID uuid, @RequestBody @Valid TaskPatchRequestDto taskPatchRequestDto) {
-        return service.patchTaskByUuid(uuid, taskPatchRequestDto);
+    public ResponseEntity<TaskResponseDto> patchTaskByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody @Valid TaskPatchRequestDto taskPatchRequestDto) {
+        return withETag(HttpStatus.OK, service.patchTaskByUuid(uuid, ETags.expectedVersion(ifMatch), taskPatchRequestDto));
+    }
+
+    @Operation(summary = "Moving tasks to another assignee in bulk")
+    @ApiResponse(responseCode = "200", description = "The tasks were reassigned, the response carries how many were moved")
+    @PostMapping("/reassign")
+    public TaskReassignResponseDto reassignTasks(@RequestBody @Valid TaskReassignRequestDto taskReassignRequestDto) {
+        return service.reassignTasks(taskReassignRequestDto);
     }
 
     @Operation(summary = "Deleting a task")
     @ApiResponse(responseCode = "204", description = "The task has been deleted")
+    @ApiResponse(responseCode = "412", description = "The task has changed since the version in If-Match")
     @DeleteMapping("/{uuid}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteTaskByUuid(@PathVariable UUID uuid) {
-        service.deleteTaskByUuid(uuid);
+    public void deleteTaskByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.deleteTaskByUuid(uuid, ETags.expectedVersion(ifMatch));
+    }
+
+    private ResponseEntity<TaskResponseDto> withETag(HttpStatus status, Versioned<TaskResponseDto> task) {
+        return ResponseEntity.status(status).eTag(ETags.format(task.version())).body(task.body());
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TaskBatchItemResponseDto(
+        @Schema(description = "Position of the item in the request", example = "0") int index,
+        @Schema(description = "HTTP status of the item", example = "201") int status,
+        @Schema(description = "The created task, absent if the item was rejected") TaskResponseDto task,
+        @Schema(description = "The reason the item was rejected", example = "User not valid with uuid 123e4567-e89b-12d3-a456-426614174000") String detail) {
+}
\ No newline at end of file
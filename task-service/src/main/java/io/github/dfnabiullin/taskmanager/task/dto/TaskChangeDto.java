@@ -0,0 +1,11 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import io.github.dfnabiullin.taskmanager.task.model.TaskChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record TaskChangeDto(@Schema(description = "Task's UUID", example = "123e4567-e89b-12d3-a456-426614174001") UUID uuid,
+                            @Schema(description = "Kind of change", example = "UPSERTED") TaskChangeType type,
+                            @Schema(description = "Current state of the task, absent for a deleted task") TaskResponseDto task) {
+}
\ No newline at end of file
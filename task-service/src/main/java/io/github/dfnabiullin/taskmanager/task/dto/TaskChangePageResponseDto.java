@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record TaskChangePageResponseDto(
+        @Schema(description = "Changes after the requested position, oldest first") List<TaskChangeDto> changes,
+        @Schema(description = "Cursor to pass as after to read the following changes", example = "AAAAAAAAA-gAAAAAAAAAKg") String next) {
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record TaskPageResponseDto(
+        @Schema(description = "Tasks on the current page") List<TaskResponseDto> items,
+        @Schema(description = "Opaque cursor of the next page, absent on the last page", example = "Ej5FZ-ibEtOkVkJmFBdAAQ") String next) {
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record TaskReassignRequestDto(
+        @Schema(description = "Move the tasks of this user", example = "123e4567-e89b-12d3-a456-426614174000") UUID fromAssignee,
+        @Schema(description = "The UUID of the new assignee, absent to unassign the tasks", example = "123e4567-e89b-12d3-a456-426614174001") UUID toAssignee,
+        @Schema(description = "Move only these tasks", example = "[\"123e4567-e89b-12d3-a456-426614174002\"]") Set<UUID> taskUuids) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "{task.reassign.selector.required}")
+    public boolean isSelectorPresent() {
+        return fromAssignee != null || taskUuids != null;
+    }
+}
\ No newline at end of file
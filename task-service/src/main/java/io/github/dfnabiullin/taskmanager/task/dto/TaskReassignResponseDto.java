@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TaskReassignResponseDto(
+        @Schema(description = "Number of tasks moved to the new assignee", example = "1200") long updated) {
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package io.github.dfnabiullin.taskmanager.task.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BatchTooLargeException extends RuntimeException {
+    private final int size;
+    private final int maxItems;
+
+    public BatchTooLargeException(int size, int maxItems) {
+        this.size = size;
+        this.maxItems = maxItems;
+    }
+}
\ No newline at end of file
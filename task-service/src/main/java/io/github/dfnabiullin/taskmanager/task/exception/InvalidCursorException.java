@@ -0,0 +1,12 @@
+package io.github.dfnabiullin.taskmanager.task.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        this.cursor = cursor;
+    }
+}
\ No newline at end of file
@@ -27,6 +27,14 @@ class TaskExceptionHandler extends ResponseEntityExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ProblemDetail handleTaskVersionMismatchException(TaskVersionMismatchException ex, Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        problemDetail.setTitle("Task Version Mismatch");
+        problemDetail.setDetail(messageSource.getMessage("error.task.versionMismatch", new Object[]{ex.getUuid()}, locale));
+        return problemDetail;
+    }
+
     @ExceptionHandler(UserValidationException.class)
     public ProblemDetail handleUserValidationException(UserValidationException ex, Locale locale) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -35,6 +43,30 @@ class TaskExceptionHandler extends ResponseEntityExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public ProblemDetail handleUserServiceUnavailableException(Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problemDetail.setTitle("User Service Unavailable");
+        problemDetail.setDetail(messageSource.getMessage("error.user.unavailable", null, locale));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ProblemDetail handleBatchTooLargeException(BatchTooLargeException ex, Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Batch Too Large");
+        problemDetail.setDetail(messageSource.getMessage("error.batch.tooLarge", new Object[]{ex.getSize(), ex.getMaxItems()}, locale));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex, Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Invalid Cursor");
+        problemDetail.setDetail(messageSource.getMessage("error.cursor.notValid", new Object[]{ex.getCursor()}, locale));
+        return problemDetail;
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, @NonNull HttpHeaders headers, @NonNull HttpStatusCode status, @NonNull WebRequest request) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -0,0 +1,14 @@
+package io.github.dfnabiullin.taskmanager.task.exception;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class TaskVersionMismatchException extends RuntimeException {
+    private final UUID uuid;
+
+    public TaskVersionMismatchException(UUID uuid) {
+        this.uuid = uuid;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.exception;
+
+public class UserServiceUnavailableException extends RuntimeException {
+    public UserServiceUnavailableException(Throwable cause) {
+        super(cause);
+    }
+}
\ No newline at end of file
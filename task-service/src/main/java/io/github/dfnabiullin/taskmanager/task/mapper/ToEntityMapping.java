@@ -9,7 +9,9 @@ import java.lang.annotation.Target;
 
 @Retention(RetentionPolicy.CLASS)
 @Target(ElementType.METHOD)
-@Mapping(target = "id", ignore = true)
 @Mapping(target = "uuid", ignore = true)
+@Mapping(target = "version", ignore = true)
+@Mapping(target = "createdAt", ignore = true)
+@Mapping(target = "updatedAt", ignore = true)
 public @interface ToEntityMapping {
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.github.dfnabiullin.taskmanager.task.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -14,19 +15,24 @@ import java.util.UUID;
 @Table(name = "tasks")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
     @EqualsAndHashCode.Include
-    @Column(unique = true, nullable = false, updatable = false)
+    @Column(nullable = false, updatable = false)
     private UUID uuid;
     private UUID assigneeUuid;
     @Column(length = 1000)
     private String description;
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    @Column(insertable = false, updatable = false)
+    private Instant createdAt;
+    @Column(insertable = false, updatable = false)
+    private Instant updatedAt;
 
     @PrePersist
     public void onBeforeCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = UuidV7.next();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.model;
+
+public enum TaskChangeType {
+    UPSERTED,
+    DELETED
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.model.Task;
+
+import java.util.List;
+
+public interface TaskBatchRepository {
+    void insertAll(List<Task> tasks);
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.config.BatchProperties;
+import io.github.dfnabiullin.taskmanager.task.model.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+class TaskBatchRepositoryImpl implements TaskBatchRepository {
+    private static final String INSERT_TASK = "INSERT INTO tasks (uuid, assignee_uuid, description) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchProperties batchProperties;
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK, tasks, batchProperties.chunkSize(), (statement, task) -> {
+            statement.setObject(1, task.getUuid(), Types.OTHER);
+            statement.setObject(2, task.getAssigneeUuid(), Types.OTHER);
+            statement.setString(3, task.getDescription());
+        });
+    }
+}
\ No newline at end of file
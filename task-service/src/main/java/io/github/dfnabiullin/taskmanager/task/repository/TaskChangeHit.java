@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangeDto;
+
+public record TaskChangeHit(TaskChangeDto change, long xid, long seq) {
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import java.util.List;
+
+public interface TaskChangeRepository {
+    List<TaskChangeHit> findChangesAfter(long xid, long seq, int limit);
+}
\ No newline at end of file
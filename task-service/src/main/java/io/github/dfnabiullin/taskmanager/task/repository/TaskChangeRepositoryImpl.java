@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangeDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import io.github.dfnabiullin.taskmanager.task.model.TaskChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class TaskChangeRepositoryImpl implements TaskChangeRepository {
+    private static final String CHANGES_AFTER = """
+            SELECT c.xid, c.seq, c.task_uuid, c.change_type, t.assignee_uuid, t.description
+            FROM task_changes c
+                     LEFT JOIN tasks t ON t.uuid = c.task_uuid AND c.change_type = 'UPSERTED'
+            WHERE (c.xid, c.seq) > (?, ?)
+              AND c.xid < CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)
+            ORDER BY c.xid, c.seq
+            LIMIT ?""";
+    private static final RowMapper<TaskChangeHit> CHANGE_MAPPER = (resultSet, rowNum) -> {
+        UUID uuid = resultSet.getObject("task_uuid", UUID.class);
+        TaskChangeType type = TaskChangeType.valueOf(resultSet.getString("change_type"));
+        TaskResponseDto task = type == TaskChangeType.UPSERTED
+                ? new TaskResponseDto(uuid, resultSet.getObject("assignee_uuid", UUID.class), resultSet.getString("description"))
+                : null;
+        return new TaskChangeHit(new TaskChangeDto(uuid, type, task), resultSet.getLong("xid"), resultSet.getLong("seq"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskChangeHit> findChangesAfter(long xid, long seq, int limit) {
+        return jdbcTemplate.query(CHANGES_AFTER, CHANGE_MAPPER, xid, seq, limit);
+    }
+}
\ No newline at end of file
@@ -1,11 +1,95 @@
 package io.github.dfnabiullin.taskmanager.task.repository;
 
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
 import io.github.dfnabiullin.taskmanager.task.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    Optional<Task> findByUuid(UUID uuid);
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskBatchRepository, TaskSearchRepository, TaskChangeRepository {
+    @Query("select new io.github.dfnabiullin.taskmanager.task.repository.TaskResponseVersion(t.uuid, t.assigneeUuid, t.description, t.version) from Task t where t.uuid = :uuid")
+    Optional<TaskResponseVersion> findResponseByUuid(UUID uuid);
+
+    @Query("select t.version from Task t where t.uuid = :uuid")
+    Optional<Long> findVersionByUuid(UUID uuid);
+
+    List<TaskResponseDto> findByUuidGreaterThanOrderByUuid(UUID uuid, Limit limit);
+
+    List<TaskResponseDto> findByAssigneeUuidAndUuidGreaterThanOrderByUuid(UUID assigneeUuid, UUID uuid, Limit limit);
+
+    List<TaskResponseDto> findByAssigneeUuidIsNullAndUuidGreaterThanOrderByUuid(UUID uuid, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t")
+    Stream<Task> streamAll();
+
+    @Transactional
+    @Query(value = """
+            UPDATE tasks
+            SET assignee_uuid = CAST(:assigneeUuid AS UUID),
+                description   = CAST(:description AS VARCHAR),
+                version       = version + 1
+            WHERE uuid = :uuid
+              AND (CAST(:version AS BIGINT) IS NULL OR version = CAST(:version AS BIGINT))
+            RETURNING *""", nativeQuery = true)
+    Optional<Task> updateByUuid(UUID uuid, Long version, UUID assigneeUuid, String description);
+
+    @Transactional
+    @Query(value = """
+            UPDATE tasks
+            SET assignee_uuid = COALESCE(CAST(:assigneeUuid AS UUID), assignee_uuid),
+                description   = COALESCE(CAST(:description AS VARCHAR), description),
+                version       = version + 1
+            WHERE uuid = :uuid
+              AND (CAST(:version AS BIGINT) IS NULL OR version = CAST(:version AS BIGINT))
+            RETURNING *""", nativeQuery = true)
+    Optional<Task> patchByUuid(UUID uuid, Long version, UUID assigneeUuid, String description);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH chunk AS (
+                SELECT uuid
+                FROM tasks
+                WHERE assignee_uuid = :fromAssignee
+                  AND assignee_uuid IS DISTINCT FROM CAST(:toAssignee AS UUID)
+                ORDER BY uuid
+                LIMIT :limit
+                FOR UPDATE
+            )
+            UPDATE tasks t
+            SET assignee_uuid = CAST(:toAssignee AS UUID),
+                version       = t.version + 1
+            FROM chunk
+            WHERE t.uuid = chunk.uuid""", nativeQuery = true)
+    int reassignChunk(UUID fromAssignee, UUID toAssignee, int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE tasks
+            SET assignee_uuid = CAST(:toAssignee AS UUID),
+                version       = version + 1
+            WHERE uuid = ANY(:taskUuids)
+              AND (CAST(:fromAssignee AS UUID) IS NULL OR assignee_uuid = CAST(:fromAssignee AS UUID))
+              AND assignee_uuid IS DISTINCT FROM CAST(:toAssignee AS UUID)""", nativeQuery = true)
+    int reassignByUuids(UUID[] taskUuids, UUID fromAssignee, UUID toAssignee);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.uuid = :uuid and (:version is null or t.version = :version)")
+    int deleteByUuid(UUID uuid, Long version);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+
+import java.util.UUID;
+
+public record TaskResponseVersion(TaskResponseDto task, long version) {
+    public TaskResponseVersion(UUID uuid, UUID assigneeUuid, String description, Long version) {
+        this(new TaskResponseDto(uuid, assigneeUuid, description), version);
+    }
+}
\ No newline at end of file
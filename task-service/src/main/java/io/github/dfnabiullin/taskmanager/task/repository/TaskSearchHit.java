@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+
+public record TaskSearchHit(TaskResponseDto task, float rank) {
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskSearchRepository {
+    List<TaskSearchHit> search(String query, int limit);
+
+    List<TaskSearchHit> searchAfter(String query, float afterRank, UUID afterUuid, int limit);
+}
\ No newline at end of file
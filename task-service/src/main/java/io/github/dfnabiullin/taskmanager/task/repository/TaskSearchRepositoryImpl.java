@@ -0,0 +1,41 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+    private static final String SEARCH_HITS = """
+            SELECT uuid, assignee_uuid, description, ts_rank(search_vector, query) AS rank
+            FROM tasks, websearch_to_tsquery('simple', ?) query
+            WHERE search_vector @@ query""";
+    private static final String SEARCH_FIRST_PAGE = """
+            SELECT * FROM (%s) hits
+            ORDER BY rank DESC, uuid
+            LIMIT ?""".formatted(SEARCH_HITS);
+    private static final String SEARCH_NEXT_PAGE = """
+            SELECT * FROM (%s) hits
+            WHERE rank < CAST(? AS REAL) OR (rank = CAST(? AS REAL) AND uuid > ?)
+            ORDER BY rank DESC, uuid
+            LIMIT ?""".formatted(SEARCH_HITS);
+    private static final RowMapper<TaskSearchHit> HIT_MAPPER = (resultSet, rowNum) -> new TaskSearchHit(
+            new TaskResponseDto(resultSet.getObject("uuid", UUID.class), resultSet.getObject("assignee_uuid", UUID.class), resultSet.getString("description")),
+            resultSet.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskSearchHit> search(String query, int limit) {
+        return jdbcTemplate.query(SEARCH_FIRST_PAGE, HIT_MAPPER, query, limit);
+    }
+
+    @Override
+    public List<TaskSearchHit> searchAfter(String query, float afterRank, UUID afterUuid, int limit) {
+        return jdbcTemplate.query(SEARCH_NEXT_PAGE, HIT_MAPPER, query, afterRank, afterRank, afterUuid, limit);
+    }
+}
\ No newline at end of file
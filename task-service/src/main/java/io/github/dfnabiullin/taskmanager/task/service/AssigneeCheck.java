@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record AssigneeCheck(Set<UUID> invalid, Set<UUID> unavailable) {
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import feign.FeignException;
+import io.github.dfnabiullin.taskmanager.task.client.UserClient;
+import io.github.dfnabiullin.taskmanager.task.client.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.task.config.CacheConfig;
+import io.github.dfnabiullin.taskmanager.task.exception.UserServiceUnavailableException;
+import io.github.dfnabiullin.taskmanager.task.exception.UserValidationException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class AssigneeValidator {
+    private static final String USER_SERVICE = "user-service";
+
+    private final UserClient userClient;
+    private final UserDirectory userDirectory;
+    private final Cache cache;
+    private final MeterRegistry meterRegistry;
+    private final Timer checkUserExistsTimer;
+    private final Counter checkUserExistsErrors;
+    private final Timer findExistingUsersTimer;
+    private final Counter findExistingUsersErrors;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public AssigneeValidator(UserClient userClient, UserDirectory userDirectory, CacheManager cacheManager, MeterRegistry meterRegistry,
+                             CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.userClient = userClient;
+        this.userDirectory = userDirectory;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ASSIGNEES_CACHE));
+        this.meterRegistry = meterRegistry;
+        this.checkUserExistsTimer = clientTimer("checkUserExists", meterRegistry);
+        this.checkUserExistsErrors = clientErrors("checkUserExists", meterRegistry);
+        this.findExistingUsersTimer = clientTimer("findExistingUsers", meterRegistry);
+        this.findExistingUsersErrors = clientErrors("findExistingUsers", meterRegistry);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(USER_SERVICE);
+    }
+
+    public void validate(UUID assigneeUuid) {
+        if (assigneeUuid == null || userDirectory.isFresh() && userDirectory.contains(assigneeUuid)) {
+            return;
+        }
+        Boolean exists = cache.get(assigneeUuid, Boolean.class);
+        if (exists == null) {
+            try {
+                exists = fetchExists(assigneeUuid);
+            } catch (UserServiceUnavailableException ex) {
+                if (knownDuringOutage(assigneeUuid)) {
+                    return;
+                }
+                throw ex;
+            }
+            cache.put(assigneeUuid, exists);
+        }
+        if (!exists) {
+            throw new UserValidationException(assigneeUuid);
+        }
+    }
+
+    public AssigneeCheck check(Collection<UUID> assigneeUuids) {
+        Set<UUID> invalidUuids = new HashSet<>();
+        Set<UUID> unavailableUuids = new HashSet<>();
+        List<UUID> uncachedUuids = new ArrayList<>();
+        boolean directoryFresh = userDirectory.isFresh();
+        for (UUID assigneeUuid : new HashSet<>(assigneeUuids)) {
+            if (assigneeUuid == null || directoryFresh && userDirectory.contains(assigneeUuid)) {
+                continue;
+            }
+            Boolean exists = cache.get(assigneeUuid, Boolean.class);
+            if (exists == null) {
+                uncachedUuids.add(assigneeUuid);
+            } else if (!exists) {
+                invalidUuids.add(assigneeUuid);
+            }
+        }
+        for (int from = 0; from < uncachedUuids.size(); from += UserClient.MAX_EXISTS_BATCH_SIZE) {
+            List<UUID> chunk = uncachedUuids.subList(from, Math.min(from + UserClient.MAX_EXISTS_BATCH_SIZE, uncachedUuids.size()));
+            try {
+                invalidUuids.addAll(fetchInvalid(chunk));
+            } catch (UserServiceUnavailableException ex) {
+                for (UUID assigneeUuid : chunk) {
+                    if (!knownDuringOutage(assigneeUuid)) {
+                        unavailableUuids.add(assigneeUuid);
+                    }
+                }
+            }
+        }
+        return new AssigneeCheck(invalidUuids, unavailableUuids);
+    }
+
+    public void evict(UUID assigneeUuid) {
+        cache.evict(assigneeUuid);
+    }
+
+    public void evictAll() {
+        cache.clear();
+    }
+
+    private boolean knownDuringOutage(UUID assigneeUuid) {
+        return userDirectory.isUsableDuringOutage() && userDirectory.contains(assigneeUuid);
+    }
+
+    private Set<UUID> fetchInvalid(List<UUID> assigneeUuids) {
+        Set<UUID> existingUuids;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            existingUuids = callUserService(() -> userClient.findExistingUsers(new UserExistsRequestDto(Set.copyOf(assigneeUuids)))).existing();
+        } catch (FeignException ex) {
+            findExistingUsersErrors.increment();
+            throw new UserServiceUnavailableException(ex);
+        } finally {
+            sample.stop(findExistingUsersTimer);
+        }
+        Set<UUID> invalidUuids = new HashSet<>();
+        for (UUID assigneeUuid : assigneeUuids) {
+            boolean exists = existingUuids.contains(assigneeUuid);
+            cache.put(assigneeUuid, exists);
+            if (!exists) {
+                invalidUuids.add(assigneeUuid);
+            }
+        }
+        return invalidUuids;
+    }
+
+    private boolean fetchExists(UUID assigneeUuid) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return callUserService(() -> {
+                userClient.checkUserExists(assigneeUuid);
+                return true;
+            });
+        } catch (FeignException.NotFound ex) {
+            return false;
+        } catch (FeignException ex) {
+            checkUserExistsErrors.increment();
+            throw new UserServiceUnavailableException(ex);
+        } finally {
+            sample.stop(checkUserExistsTimer);
+        }
+    }
+
+    private <T> T callUserService(Supplier<T> call) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            throw new UserServiceUnavailableException(ex);
+        }
+    }
+
+    private static Timer clientTimer(String method, MeterRegistry meterRegistry) {
+        return Timer.builder("user.client.requests")
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter clientErrors(String method, MeterRegistry meterRegistry) {
+        return Counter.builder("user.client.errors")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
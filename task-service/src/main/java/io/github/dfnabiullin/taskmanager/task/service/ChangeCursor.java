@@ -0,0 +1,35 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public record ChangeCursor(long xid, long seq) {
+    static final ChangeCursor START = new ChangeCursor(0L, 0L);
+    private static final int ENCODED_LENGTH = Long.BYTES * 2;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(ENCODED_LENGTH)
+                .putLong(xid)
+                .putLong(seq)
+                .array());
+    }
+
+    public static ChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (buffer.remaining() != ENCODED_LENGTH) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new ChangeCursor(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+public final class PageCursor {
+    static final UUID FIRST_PAGE = new UUID(0L, 0L);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {
+    }
+
+    public static String encode(UUID uuid) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES * 2)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (buffer.remaining() != Long.BYTES * 2) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
\ No newline at end of file
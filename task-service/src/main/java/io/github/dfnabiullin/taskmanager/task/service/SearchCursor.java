@@ -0,0 +1,36 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+public record SearchCursor(float rank, UUID uuid) {
+    private static final int ENCODED_LENGTH = Float.BYTES + Long.BYTES * 2;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(ENCODED_LENGTH)
+                .putFloat(rank)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(cursor));
+            if (buffer.remaining() != ENCODED_LENGTH) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new SearchCursor(buffer.getFloat(), new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
\ No newline at end of file
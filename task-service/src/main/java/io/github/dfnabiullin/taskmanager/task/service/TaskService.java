@@ -1,75 +1,239 @@
 package io.github.dfnabiullin.taskmanager.task.service;
 
-import feign.FeignException;
-import io.github.dfnabiullin.taskmanager.task.client.UserClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.dfnabiullin.taskmanager.task.config.BatchProperties;
+import io.github.dfnabiullin.taskmanager.task.config.PaginationProperties;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskBatchItemResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskPageResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskPatchRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskRequestDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import io.github.dfnabiullin.taskmanager.task.exception.BatchTooLargeException;
 import io.github.dfnabiullin.taskmanager.task.exception.TaskNotFoundException;
-import io.github.dfnabiullin.taskmanager.task.exception.UserValidationException;
+import io.github.dfnabiullin.taskmanager.task.exception.TaskVersionMismatchException;
 import io.github.dfnabiullin.taskmanager.task.mapper.TaskMapper;
 import io.github.dfnabiullin.taskmanager.task.model.Task;
+import io.github.dfnabiullin.taskmanager.task.model.UuidV7;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskChangeHit;
 import io.github.dfnabiullin.taskmanager.task.repository.TaskRepository;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskResponseVersion;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskSearchHit;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
+    private static final int MAX_CHANGES_PAGE_SIZE = 10000;
+
     private final TaskRepository repository;
     private final TaskMapper mapper;
-    private final UserClient userClient;
+    private final AssigneeValidator assigneeValidator;
+    private final PaginationProperties paginationProperties;
+    private final BatchProperties batchProperties;
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public TaskResponseDto createTask(TaskRequestDto taskRequestDto) {
-        validateAssignee(taskRequestDto.assigneeUuid());
+    public Versioned<TaskResponseDto> createTask(TaskRequestDto taskRequestDto) {
+        assigneeValidator.validate(taskRequestDto.assigneeUuid());
         Task task = mapper.fromRequestDto(taskRequestDto);
-        task.setUuid(UUID.randomUUID());
-        return mapper.toResponseDto(repository.save(task));
+        task.setUuid(UuidV7.next());
+        return transactionTemplate.execute(status -> versioned(repository.save(task)));
+    }
+
+    public List<TaskBatchItemResponseDto> createTasks(List<TaskRequestDto> taskRequestDtos) {
+        if (taskRequestDtos.size() > batchProperties.maxItems()) {
+            throw new BatchTooLargeException(taskRequestDtos.size(), batchProperties.maxItems());
+        }
+        List<UUID> assigneeUuids = taskRequestDtos.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequestDto::assigneeUuid)
+                .toList();
+        AssigneeCheck assigneeCheck = assigneeValidator.check(assigneeUuids);
+        List<TaskBatchItemResponseDto> results = new ArrayList<>(taskRequestDtos.size());
+        List<Task> tasks = new ArrayList<>(taskRequestDtos.size());
+        for (int index = 0; index < taskRequestDtos.size(); index++) {
+            TaskRequestDto taskRequestDto = taskRequestDtos.get(index);
+            String violations = findViolations(taskRequestDto);
+            if (violations != null) {
+                results.add(rejected(index, violations));
+            } else if (assigneeCheck.unavailable().contains(taskRequestDto.assigneeUuid())) {
+                results.add(new TaskBatchItemResponseDto(index, HttpStatus.SERVICE_UNAVAILABLE.value(), null, messageSource.getMessage("error.user.unavailable", null, LocaleContextHolder.getLocale())));
+            } else if (assigneeCheck.invalid().contains(taskRequestDto.assigneeUuid())) {
+                results.add(rejected(index, messageSource.getMessage("error.user.notValid", new Object[]{taskRequestDto.assigneeUuid()}, LocaleContextHolder.getLocale())));
+            } else {
+                Task task = mapper.fromRequestDto(taskRequestDto);
+                task.setUuid(UuidV7.next());
+                tasks.add(task);
+                results.add(new TaskBatchItemResponseDto(index, HttpStatus.CREATED.value(), mapper.toResponseDto(task), null));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.insertAll(tasks));
+        return results;
     }
 
     @Transactional(readOnly = true)
-    public TaskResponseDto getTaskByUuid(UUID uuid) {
-        return mapper.toResponseDto(repository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid)));
+    public Versioned<TaskResponseDto> getTaskByUuid(UUID uuid) {
+        TaskResponseVersion task = repository.findResponseByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
+        return new Versioned<>(task.task(), task.version());
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDto> getAllTasks() {
-        return repository.findAll().stream().map(mapper::toResponseDto).toList();
+    public long getTaskVersion(UUID uuid) {
+        return repository.findVersionByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
     }
 
-    @Transactional
-    public TaskResponseDto putTaskByUuid(UUID uuid, TaskRequestDto taskRequestDto) {
-        validateAssignee(taskRequestDto.assigneeUuid());
-        Task existingTask = repository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
-        return mapper.toResponseDto(repository.save(mapper.updateTaskFromDto(taskRequestDto, existingTask)));
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getAllTasks(UUID assigneeUuid, boolean unassigned, String cursor, Integer limit) {
+        int pageSize = paginationProperties.resolvePageSize(limit);
+        UUID after = PageCursor.decode(cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<TaskResponseDto> tasks;
+        if (assigneeUuid != null) {
+            tasks = repository.findByAssigneeUuidAndUuidGreaterThanOrderByUuid(assigneeUuid, after, fetchLimit);
+        } else if (unassigned) {
+            tasks = repository.findByAssigneeUuidIsNullAndUuidGreaterThanOrderByUuid(after, fetchLimit);
+        } else {
+            tasks = repository.findByUuidGreaterThanOrderByUuid(after, fetchLimit);
+        }
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponseDto> page = hasNext ? List.copyOf(tasks.subList(0, pageSize)) : tasks;
+        String next = hasNext ? PageCursor.encode(page.getLast().uuid()) : null;
+        return new TaskPageResponseDto(page, next);
     }
 
-    @Transactional
-    public TaskResponseDto patchTaskByUuid(UUID uuid, TaskPatchRequestDto taskPatchRequestDto) {
-        validateAssignee(taskPatchRequestDto.assigneeUuid());
-        Task existingTask = repository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
-        return mapper.toResponseDto(repository.save(mapper.patchTaskFromDto(taskPatchRequestDto, existingTask)));
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto searchTasks(String query, String cursor, Integer limit) {
+        int pageSize = paginationProperties.resolvePageSize(limit);
+        SearchCursor after = SearchCursor.decode(cursor);
+        if (query == null || query.isBlank()) {
+            return new TaskPageResponseDto(List.of(), null);
+        }
+        List<TaskSearchHit> hits = after == null
+                ? repository.search(query, pageSize + 1)
+                : repository.searchAfter(query, after.rank(), after.uuid(), pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+        String next = hasNext ? new SearchCursor(page.getLast().rank(), page.getLast().task().uuid()).encode() : null;
+        return new TaskPageResponseDto(page.stream().map(TaskSearchHit::task).toList(), next);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangePageResponseDto findChanges(String cursor, int limit) {
+        ChangeCursor after = ChangeCursor.decode(cursor);
+        List<TaskChangeHit> hits = repository.findChangesAfter(after.xid(), after.seq(), Math.clamp(limit, 1, MAX_CHANGES_PAGE_SIZE));
+        ChangeCursor next = hits.isEmpty() ? after : new ChangeCursor(hits.getLast().xid(), hits.getLast().seq());
+        return new TaskChangePageResponseDto(hits.stream().map(TaskChangeHit::change).toList(), next.encode());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDto.class);
+        try (Stream<Task> tasks = repository.streamAll()) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                outputStream.write(writer.writeValueAsBytes(mapper.toResponseDto(task)));
+                outputStream.write('\n');
+                entityManager.detach(task);
+            }
+        }
+    }
+
+    public Versioned<TaskResponseDto> putTaskByUuid(UUID uuid, Long expectedVersion, TaskRequestDto taskRequestDto) {
+        assigneeValidator.validate(taskRequestDto.assigneeUuid());
+        return transactionTemplate.execute(status -> versioned(repository.updateByUuid(uuid, expectedVersion, taskRequestDto.assigneeUuid(), taskRequestDto.description())
+                .orElseThrow(() -> writeFailed(uuid, expectedVersion))));
+    }
+
+    public Versioned<TaskResponseDto> patchTaskByUuid(UUID uuid, Long expectedVersion, TaskPatchRequestDto taskPatchRequestDto) {
+        assigneeValidator.validate(taskPatchRequestDto.assigneeUuid());
+        return transactionTemplate.execute(status -> versioned(repository.patchByUuid(uuid, expectedVersion, taskPatchRequestDto.assigneeUuid(), taskPatchRequestDto.description())
+                .orElseThrow(() -> writeFailed(uuid, expectedVersion))));
+    }
+
+    public TaskReassignResponseDto reassignTasks(TaskReassignRequestDto taskReassignRequestDto) {
+        Set<UUID> taskUuids = taskReassignRequestDto.taskUuids();
+        if (taskUuids != null && taskUuids.size() > batchProperties.maxItems()) {
+            throw new BatchTooLargeException(taskUuids.size(), batchProperties.maxItems());
+        }
+        assigneeValidator.validate(taskReassignRequestDto.toAssignee());
+        int chunkSize = batchProperties.chunkSize();
+        long updated = 0;
+        if (taskUuids == null) {
+            int chunk;
+            do {
+                chunk = repository.reassignChunk(taskReassignRequestDto.fromAssignee(), taskReassignRequestDto.toAssignee(), chunkSize);
+                updated += chunk;
+            } while (chunk == chunkSize);
+        } else {
+            List<UUID> uuids = List.copyOf(taskUuids);
+            for (int from = 0; from < uuids.size(); from += chunkSize) {
+                UUID[] chunk = uuids.subList(from, Math.min(from + chunkSize, uuids.size())).toArray(UUID[]::new);
+                updated += repository.reassignByUuids(chunk, taskReassignRequestDto.fromAssignee(), taskReassignRequestDto.toAssignee());
+            }
+        }
+        return new TaskReassignResponseDto(updated);
     }
 
     @Transactional
-    public void deleteTaskByUuid(UUID uuid) {
-        Task existedTask = repository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
-        repository.delete(existedTask);
+    public void deleteTaskByUuid(UUID uuid, Long expectedVersion) {
+        if (repository.deleteByUuid(uuid, expectedVersion) == 0) {
+            throw writeFailed(uuid, expectedVersion);
+        }
+    }
+
+    private Versioned<TaskResponseDto> versioned(Task task) {
+        return new Versioned<>(mapper.toResponseDto(task), task.getVersion());
     }
 
-    private void validateAssignee(UUID assigneeUuid) {
-        if (assigneeUuid == null) {
-            return;
+    private RuntimeException writeFailed(UUID uuid, Long expectedVersion) {
+        if (expectedVersion != null && repository.findVersionByUuid(uuid).isPresent()) {
+            return new TaskVersionMismatchException(uuid);
         }
-        try {
-            userClient.checkUserExists(assigneeUuid);
-        } catch (FeignException ex) {
-            throw new UserValidationException(assigneeUuid);
+        return new TaskNotFoundException(uuid);
+    }
+
+    private String findViolations(TaskRequestDto taskRequestDto) {
+        if (taskRequestDto == null) {
+            return messageSource.getMessage("error.batch.itemNull", null, LocaleContextHolder.getLocale());
         }
+        Set<ConstraintViolation<TaskRequestDto>> found = validator.validate(taskRequestDto);
+        return found.isEmpty() ? null : found.stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+
+    private TaskBatchItemResponseDto rejected(int index, String detail) {
+        return new TaskBatchItemResponseDto(index, HttpStatus.BAD_REQUEST.value(), null, detail);
     }
 }
\ No newline at end of file
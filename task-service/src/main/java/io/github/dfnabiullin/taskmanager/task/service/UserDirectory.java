@@ -0,0 +1,116 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.client.UserChangeDto;
+import io.github.dfnabiullin.taskmanager.task.client.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.client.UserChangeType;
+import io.github.dfnabiullin.taskmanager.task.client.UserClient;
+import io.github.dfnabiullin.taskmanager.task.config.CacheConfig;
+import io.github.dfnabiullin.taskmanager.task.config.UserDirectoryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class UserDirectory {
+    private final UserClient userClient;
+    private final UserDirectoryProperties properties;
+    private final Cache assigneeCache;
+    private volatile Set<UUID> users = ConcurrentHashMap.newKeySet();
+    private volatile boolean synced;
+    private volatile long lastSyncNanos;
+    private long lastFullResyncNanos;
+    private String cursor;
+
+    public UserDirectory(UserClient userClient, UserDirectoryProperties properties, CacheManager cacheManager) {
+        this.userClient = userClient;
+        this.properties = properties;
+        this.assigneeCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.ASSIGNEES_CACHE));
+    }
+
+    public boolean isFresh() {
+        return synced && System.nanoTime() - lastSyncNanos <= properties.maxStaleness().toNanos();
+    }
+
+    public boolean isUsableDuringOutage() {
+        return synced && System.nanoTime() - lastSyncNanos <= properties.maxOutageStaleness().toNanos();
+    }
+
+    public boolean contains(UUID uuid) {
+        return users.contains(uuid);
+    }
+
+    @Scheduled(fixedDelayString = "${application.config.user-directory.sync-interval}")
+    public void sync() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            if (!synced || System.nanoTime() - lastFullResyncNanos >= properties.fullResyncInterval().toNanos()) {
+                fullResync();
+            } else {
+                catchUp();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("User directory sync failed after cursor {}, keeping the last known state", cursor, ex);
+        }
+    }
+
+    private void catchUp() {
+        long startNanos = System.nanoTime();
+        cursor = replay(users, cursor, true);
+        lastSyncNanos = startNanos;
+    }
+
+    private void fullResync() {
+        long startNanos = System.nanoTime();
+        Set<UUID> replayed = ConcurrentHashMap.newKeySet();
+        String next = replay(replayed, null, false);
+        Set<UUID> previous = users;
+        users = replayed;
+        evictChanged(previous, replayed);
+        cursor = next;
+        lastSyncNanos = startNanos;
+        lastFullResyncNanos = startNanos;
+        synced = true;
+    }
+
+    private void evictChanged(Set<UUID> previous, Set<UUID> current) {
+        for (UUID uuid : previous) {
+            if (!current.contains(uuid)) {
+                assigneeCache.evict(uuid);
+            }
+        }
+        for (UUID uuid : current) {
+            if (!previous.contains(uuid)) {
+                assigneeCache.evict(uuid);
+            }
+        }
+    }
+
+    private String replay(Set<UUID> target, String after, boolean evictAssignees) {
+        UserChangePageResponseDto page;
+        do {
+            page = userClient.findChanges(after, properties.pageSize());
+            for (UserChangeDto change : page.changes()) {
+                if (change.type() == UserChangeType.CREATED) {
+                    target.add(change.uuid());
+                } else {
+                    target.remove(change.uuid());
+                }
+                if (evictAssignees) {
+                    assigneeCache.evict(change.uuid());
+                }
+            }
+            after = page.next();
+        } while (page.changes().size() >= properties.pageSize());
+        return after;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+public record Versioned<T>(T body, long version) {
+}
\ No newline at end of file
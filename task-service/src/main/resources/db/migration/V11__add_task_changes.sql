@@ -0,0 +1,59 @@
+CREATE SEQUENCE task_change_seq;
+
+-- One row per task holding its latest change, so the feed grows with the number of changed tasks, not edits.
+-- Changes are ordered by the writing transaction, and the reader only serves transactions older than every one still
+-- running, so writers never wait for each other and a late commit can't land behind a cursor that moved past it.
+CREATE TABLE task_changes
+(
+    task_uuid   UUID        NOT NULL,
+    xid         BIGINT      NOT NULL,
+    seq         BIGINT      NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    CONSTRAINT pk_task_changes PRIMARY KEY (task_uuid),
+    CONSTRAINT uc_task_changes_xid_seq UNIQUE (xid, seq)
+);
+
+INSERT INTO task_changes (task_uuid, xid, seq, change_type)
+SELECT uuid, 0, nextval('task_change_seq'), 'UPSERTED'
+FROM (SELECT uuid FROM tasks ORDER BY uuid) existing;
+
+CREATE FUNCTION record_task_changes() RETURNS TRIGGER AS
+$$
+DECLARE
+    current_xid BIGINT := CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO task_changes (task_uuid, xid, seq, change_type)
+        SELECT uuid, current_xid, nextval('task_change_seq'), 'DELETED'
+        FROM (SELECT uuid FROM old_tasks ORDER BY uuid) deleted
+        ON CONFLICT (task_uuid) DO UPDATE SET xid = EXCLUDED.xid, seq = EXCLUDED.seq, change_type = EXCLUDED.change_type;
+    ELSE
+        INSERT INTO task_changes (task_uuid, xid, seq, change_type)
+        SELECT uuid, current_xid, nextval('task_change_seq'), 'UPSERTED'
+        FROM (SELECT uuid FROM new_tasks ORDER BY uuid) upserted
+        ON CONFLICT (task_uuid) DO UPDATE SET xid = EXCLUDED.xid, seq = EXCLUDED.seq, change_type = EXCLUDED.change_type;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_changes_insert
+    AFTER INSERT
+    ON tasks
+    REFERENCING NEW TABLE AS new_tasks
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_changes();
+
+CREATE TRIGGER trg_tasks_changes_update
+    AFTER UPDATE
+    ON tasks
+    REFERENCING NEW TABLE AS new_tasks
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_changes();
+
+CREATE TRIGGER trg_tasks_changes_delete
+    AFTER DELETE
+    ON tasks
+    REFERENCING OLD TABLE AS old_tasks
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_changes();
\ No newline at end of file
@@ -0,0 +1,7 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_uuid
+    ON tasks (assignee_uuid, uuid)
+    WHERE assignee_uuid IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_unassigned
+    ON tasks (uuid)
+    WHERE assignee_uuid IS NULL;
\ No newline at end of file
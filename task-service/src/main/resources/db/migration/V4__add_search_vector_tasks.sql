@@ -0,0 +1,3 @@
+ALTER TABLE tasks
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(description, ''))) STORED;
\ No newline at end of file
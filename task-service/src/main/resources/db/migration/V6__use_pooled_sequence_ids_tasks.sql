@@ -0,0 +1,8 @@
+ALTER TABLE tasks
+    ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE tasks_seq INCREMENT BY 50 OWNED BY tasks.id;
+
+-- Each value is the upper end of a block of 50 ids, so the first block has to start above the existing rows.
+SELECT setval('tasks_seq', COALESCE(MAX(id), 0) + 50, false)
+FROM tasks;
\ No newline at end of file
@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS pk_tasks_uuid
+    ON tasks (uuid);
\ No newline at end of file
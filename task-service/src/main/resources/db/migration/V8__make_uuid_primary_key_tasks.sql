@@ -0,0 +1,8 @@
+SET LOCAL lock_timeout = '5s';
+
+-- The unique index was built concurrently by V7, so the swap below only needs a brief exclusive lock.
+ALTER TABLE tasks
+    DROP CONSTRAINT pk_tasks,
+    DROP CONSTRAINT uc_tasks_uuid,
+    ADD CONSTRAINT pk_tasks PRIMARY KEY USING INDEX pk_tasks_uuid,
+    DROP COLUMN id;
\ No newline at end of file
@@ -1,22 +1,41 @@
 package io.github.dfnabiullin.taskmanager.task.controller;
 
+import io.github.dfnabiullin.taskmanager.task.dto.TaskBatchItemResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangeDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskPageResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskPatchRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskRequestDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import io.github.dfnabiullin.taskmanager.task.model.TaskChangeType;
 import io.github.dfnabiullin.taskmanager.task.service.TaskService;
+import io.github.dfnabiullin.taskmanager.task.service.Versioned;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +53,13 @@ class TaskControllerTest {
 
         final var expectedTaskResponseDto = createDefaultTaskResponseDto();
 
-        when(service.createTask(any(TaskRequestDto.class))).thenReturn(createdTask);
+        when(service.createTask(any(TaskRequestDto.class))).thenReturn(new Versioned<>(createdTask, 0L));
 
-        final TaskResponseDto actualTaskResponseDto = controller.createTask(initialTaskRequestDto);
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.createTask(initialTaskRequestDto);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals(HttpStatus.CREATED, actualResponse.getStatusCode());
+        assertEquals("\"0\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedTaskResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<TaskRequestDto> captorInitialTaskRequestDto = ArgumentCaptor.forClass(TaskRequestDto.class);
         verify(service, times(1)).createTask(captorInitialTaskRequestDto.capture());
@@ -46,6 +67,39 @@ class TaskControllerTest {
         assertEquals(initialTaskRequestDto.description(), captorInitialTaskRequestDto.getValue().description());
     }
 
+    @Test
+    void createTasks_shouldReturnItemResults() {
+        final List<TaskRequestDto> initialTaskRequestDtos = List.of(createDefaultTaskRequestDto());
+
+        final List<TaskBatchItemResponseDto> createdResults = List.of(new TaskBatchItemResponseDto(0, 201, createDefaultTaskResponseDto(), null));
+
+        final List<TaskBatchItemResponseDto> expectedResults = List.of(new TaskBatchItemResponseDto(0, 201, createDefaultTaskResponseDto(), null));
+
+        when(service.createTasks(anyList())).thenReturn(createdResults);
+
+        final List<TaskBatchItemResponseDto> actualResults = controller.createTasks(initialTaskRequestDtos);
+
+        assertEquals(expectedResults, actualResults);
+
+        verify(service, times(1)).createTasks(initialTaskRequestDtos);
+    }
+
+    @Test
+    void exportTasks_shouldStreamNdjsonFromService() throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+
+        final ResponseEntity<StreamingResponseBody> actualResponse = controller.exportTasks();
+
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, actualResponse.getHeaders().getContentType());
+
+        verify(service, never()).exportTasks(any());
+
+        actualResponse.getBody().writeTo(outputStream);
+
+        verify(service, times(1)).exportTasks(outputStream);
+    }
+
     @Test
     void getTaskByUuid_shouldReturnTask() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
@@ -54,19 +108,52 @@ class TaskControllerTest {
 
         final var expectedTaskResponseDto = createDefaultTaskResponseDto();
 
-        when(service.getTaskByUuid(any(UUID.class))).thenReturn(existingTask);
+        when(service.getTaskByUuid(any(UUID.class))).thenReturn(new Versioned<>(existingTask, 2L));
 
-        final TaskResponseDto actualTaskResponseDto = controller.getTaskByUuid(initialUuid);
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.getTaskByUuid(initialUuid, null);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals("\"2\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedTaskResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
         verify(service, times(1)).getTaskByUuid(captorInitialUuid.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(service, never()).getTaskVersion(any());
+    }
+
+    @Test
+    void getTaskByUuid_whenETagMatches_shouldReturnNotModifiedFromVersionOnly() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(service.getTaskVersion(any(UUID.class))).thenReturn(2L);
+
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.getTaskByUuid(initialUuid, "W/\"1\", W/\"2\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, actualResponse.getStatusCode());
+        assertEquals("\"2\"", actualResponse.getHeaders().getETag());
+        assertNull(actualResponse.getBody());
+
+        verify(service, times(1)).getTaskVersion(initialUuid);
+        verify(service, never()).getTaskByUuid(any());
     }
 
     @Test
-    void getAllTasks_shouldReturnTaskList() {
+    void getTaskByUuid_whenETagIsStale_shouldReturnTask() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(service.getTaskVersion(any(UUID.class))).thenReturn(3L);
+        when(service.getTaskByUuid(any(UUID.class))).thenReturn(new Versioned<>(createDefaultTaskResponseDto(), 3L));
+
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.getTaskByUuid(initialUuid, "W/\"2\"");
+
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals("\"3\"", actualResponse.getHeaders().getETag());
+        assertEquals(createDefaultTaskResponseDto(), actualResponse.getBody());
+    }
+
+    @Test
+    void getAllTasks_shouldReturnTaskPage() {
         final var existingTask1 = createDefaultTaskResponseDto();
 
         final var existingTask2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
@@ -75,15 +162,32 @@ class TaskControllerTest {
 
         final var expectedTaskResponseDto2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        final List<TaskResponseDto> expectedList = List.of(expectedTaskResponseDto1, expectedTaskResponseDto2);
+        final var existingPage = new TaskPageResponseDto(List.of(existingTask1, existingTask2), "Ej5FZ-ibEtOkVkJmFBdAAw");
+
+        final var expectedPage = new TaskPageResponseDto(List.of(expectedTaskResponseDto1, expectedTaskResponseDto2), "Ej5FZ-ibEtOkVkJmFBdAAw");
+
+        when(service.getAllTasks(any(), anyBoolean(), any(), any())).thenReturn(existingPage);
+
+        final TaskPageResponseDto actualPage = controller.getAllTasks(createDefaultUuid(), false, "Ej5FZ-ibEtOkVkJmFBdAAQ", 2);
+
+        assertEquals(expectedPage, actualPage);
+
+        verify(service, times(1)).getAllTasks(createDefaultUuid(), false, "Ej5FZ-ibEtOkVkJmFBdAAQ", 2);
+    }
+
+    @Test
+    void searchTasks_shouldReturnTaskPage() {
+        final var foundPage = new TaskPageResponseDto(List.of(createDefaultTaskResponseDto()), null);
+
+        final var expectedPage = new TaskPageResponseDto(List.of(createDefaultTaskResponseDto()), null);
 
-        when(service.getAllTasks()).thenReturn(List.of(existingTask1, existingTask2));
+        when(service.searchTasks(any(), any(), any())).thenReturn(foundPage);
 
-        final List<TaskResponseDto> actualList = controller.getAllTasks();
+        final TaskPageResponseDto actualPage = controller.searchTasks("lorem ipsum", null, 20);
 
-        assertIterableEquals(expectedList, actualList);
+        assertEquals(expectedPage, actualPage);
 
-        verify(service, times(1)).getAllTasks();
+        verify(service, times(1)).searchTasks("lorem ipsum", null, 20);
     }
 
     @Test
@@ -96,15 +200,16 @@ class TaskControllerTest {
 
         final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(service.putTaskByUuid(any(UUID.class), any(TaskRequestDto.class))).thenReturn(updatedTask);
+        when(service.putTaskByUuid(any(UUID.class), any(), any(TaskRequestDto.class))).thenReturn(new Versioned<>(updatedTask, 4L));
 
-        final TaskResponseDto actualTaskResponseDto = controller.putTaskByUuid(initialUuid, initialTaskRequestDto);
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.putTaskByUuid(initialUuid, "\"3\"", initialTaskRequestDto);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals("\"4\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedTaskResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
         final ArgumentCaptor<TaskRequestDto> captorInitialTaskRequestDto = ArgumentCaptor.forClass(TaskRequestDto.class);
-        verify(service, times(1)).putTaskByUuid(captorInitialUuid.capture(), captorInitialTaskRequestDto.capture());
+        verify(service, times(1)).putTaskByUuid(captorInitialUuid.capture(), eq(3L), captorInitialTaskRequestDto.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
         assertEquals(initialTaskRequestDto.assigneeUuid(), captorInitialTaskRequestDto.getValue().assigneeUuid());
         assertEquals(initialTaskRequestDto.description(), captorInitialTaskRequestDto.getValue().description());
@@ -120,15 +225,16 @@ class TaskControllerTest {
 
         final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(service.patchTaskByUuid(any(UUID.class), any(TaskPatchRequestDto.class))).thenReturn(patchedTask);
+        when(service.patchTaskByUuid(any(UUID.class), any(), any(TaskPatchRequestDto.class))).thenReturn(new Versioned<>(patchedTask, 1L));
 
-        final TaskResponseDto actualTaskResponseDto = controller.patchTaskByUuid(initialUuid, initialTaskPatchRequestDto);
+        final ResponseEntity<TaskResponseDto> actualResponse = controller.patchTaskByUuid(initialUuid, null, initialTaskPatchRequestDto);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals("\"1\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedTaskResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
         final ArgumentCaptor<TaskPatchRequestDto> captorInitialTaskPatchRequestDto = ArgumentCaptor.forClass(TaskPatchRequestDto.class);
-        verify(service, times(1)).patchTaskByUuid(captorInitialUuid.capture(), captorInitialTaskPatchRequestDto.capture());
+        verify(service, times(1)).patchTaskByUuid(captorInitialUuid.capture(), isNull(), captorInitialTaskPatchRequestDto.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
         assertEquals(initialTaskPatchRequestDto.assigneeUuid(), captorInitialTaskPatchRequestDto.getValue()
                 .assigneeUuid());
@@ -136,17 +242,54 @@ class TaskControllerTest {
                 .description());
     }
 
+    @Test
+    void findChanges_shouldReturnChangePage() {
+        final var foundPage = new TaskChangePageResponseDto(List.of(new TaskChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), TaskChangeType.DELETED, null)), "AAAAAAAAA-gAAAAAAAAAAw");
+
+        final var expectedPage = new TaskChangePageResponseDto(List.of(new TaskChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), TaskChangeType.DELETED, null)), "AAAAAAAAA-gAAAAAAAAAAw");
+
+        when(service.findChanges(anyString(), anyInt())).thenReturn(foundPage);
+
+        final TaskChangePageResponseDto actualPage = controller.findChanges("AAAAAAAAA-gAAAAAAAAAAg", 1000);
+
+        assertEquals(expectedPage, actualPage);
+
+        verify(service, times(1)).findChanges("AAAAAAAAA-gAAAAAAAAAAg", 1000);
+    }
+
+    @Test
+    void reassignTasks_shouldReturnUpdatedCount() {
+        final var initialTaskReassignRequestDto = new TaskReassignRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), null);
+
+        when(service.reassignTasks(any(TaskReassignRequestDto.class))).thenReturn(new TaskReassignResponseDto(1200));
+
+        final TaskReassignResponseDto actualResult = controller.reassignTasks(initialTaskReassignRequestDto);
+
+        assertEquals(new TaskReassignResponseDto(1200), actualResult);
+
+        verify(service, times(1)).reassignTasks(initialTaskReassignRequestDto);
+    }
+
     @Test
     void deleteTaskByUuid_shouldCallDeleteOnService() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
-        controller.deleteTaskByUuid(initialUuid);
+        controller.deleteTaskByUuid(initialUuid, null);
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(service, times(1)).deleteTaskByUuid(captorInitialUuid.capture());
+        verify(service, times(1)).deleteTaskByUuid(captorInitialUuid.capture(), isNull());
         assertEquals(initialUuid, captorInitialUuid.getValue());
     }
 
+    @Test
+    void deleteTaskByUuid_whenIfMatchIsMalformed_shouldPassUnmatchableVersion() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        controller.deleteTaskByUuid(initialUuid, "not an etag");
+
+        verify(service, times(1)).deleteTaskByUuid(initialUuid, ETags.UNMATCHABLE_VERSION);
+    }
+
     private UUID createDefaultUuid() {
         return UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
     }
@@ -42,6 +42,69 @@ class TaskExceptionHandlerTest {
         assertEquals(expectedProblemDetail, actualProblemDetail);
     }
 
+    @Test
+    void handleUserServiceUnavailableException_shouldReturnProblemDetailWithStatus503() {
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        expectedProblemDetail.setTitle("User Service Unavailable");
+        expectedProblemDetail.setDetail("User service is temporarily unavailable");
+
+        when(messageSource.getMessage("error.user.unavailable", null, locale)).thenReturn("User service is temporarily unavailable");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleUserServiceUnavailableException(locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
+    @Test
+    void handleTaskVersionMismatchException_shouldReturnProblemDetailWithStatus412() {
+        final var initialTaskVersionMismatchException = new TaskVersionMismatchException(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        expectedProblemDetail.setTitle("Task Version Mismatch");
+        expectedProblemDetail.setDetail("Task with uuid 123e4567-e89b-12d3-a456-426614174000 has been modified, reload it and retry");
+
+        when(messageSource.getMessage("error.task.versionMismatch", new Object[]{initialTaskVersionMismatchException.getUuid()}, locale)).thenReturn("Task with uuid 123e4567-e89b-12d3-a456-426614174000 has been modified, reload it and retry");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleTaskVersionMismatchException(initialTaskVersionMismatchException, locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
+    @Test
+    void handleBatchTooLargeException_shouldReturnProblemDetailWithStatus400() {
+        final var initialBatchTooLargeException = new BatchTooLargeException(10001, 10000);
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        expectedProblemDetail.setTitle("Batch Too Large");
+        expectedProblemDetail.setDetail("Batch of 10001 tasks exceeds the limit of 10000");
+
+        when(messageSource.getMessage("error.batch.tooLarge", new Object[]{10001, 10000}, locale)).thenReturn("Batch of 10001 tasks exceeds the limit of 10000");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleBatchTooLargeException(initialBatchTooLargeException, locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
+    @Test
+    void handleInvalidCursorException_shouldReturnProblemDetailWithStatus400() {
+        final var initialInvalidCursorException = new InvalidCursorException("not a cursor");
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        expectedProblemDetail.setTitle("Invalid Cursor");
+        expectedProblemDetail.setDetail("Page cursor not a cursor is not valid");
+
+        when(messageSource.getMessage("error.cursor.notValid", new Object[]{initialInvalidCursorException.getCursor()}, locale)).thenReturn("Page cursor not a cursor is not valid");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleInvalidCursorException(initialInvalidCursorException, locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
     @Test
     void handleMethodArgumentNotValid_whenSingleError_shouldReturnMessageWithoutSeparator() {
         final var initialBindingResult = new BeanPropertyBindingResult(new Object(), "object");
@@ -0,0 +1,125 @@
+package io.github.dfnabiullin.taskmanager.task.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Test
+    void generate_shouldSetVersionVariantAndTimestamp() {
+        final var generator = new UuidV7(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        final UUID uuid = generator.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW.toEpochMilli(), uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_whenCalledWithinSameMillisecond_shouldIncreaseMonotonically() {
+        final var generator = new UuidV7(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        final UUID first = generator.generate();
+        final UUID second = generator.generate();
+
+        assertTrue(compare(first, second) < 0);
+        assertEquals(first.getMostSignificantBits() >>> 16, second.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_whenClockMovesBackwards_shouldStayMonotonic() {
+        final var clock = new MutableClock(NOW);
+        final var generator = new UuidV7(clock);
+        final UUID first = generator.generate();
+        clock.instant = NOW.minusSeconds(5);
+
+        final UUID second = generator.generate();
+
+        assertTrue(compare(first, second) < 0);
+    }
+
+    @Test
+    void generate_whenCounterOverflows_shouldAdvanceTimestamp() {
+        final var generator = new UuidV7(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        UUID last = null;
+        for (int i = 0; i <= 4096; i++) {
+            last = generator.generate();
+        }
+
+        assertEquals(NOW.toEpochMilli() + 1, last.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void next_whenCalledFromManyVirtualThreads_shouldReturnUniqueIncreasingValuesPerThread() throws Exception {
+        final Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        final List<Boolean> ordered = new ArrayList<>();
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = IntStream.range(0, 64)
+                    .mapToObj(i -> executor.submit(() -> {
+                        UUID previous = UuidV7.next();
+                        seen.add(previous);
+                        boolean increasing = true;
+                        for (int j = 0; j < 1000; j++) {
+                            final UUID current = UuidV7.next();
+                            increasing &= compare(previous, current) < 0;
+                            seen.add(current);
+                            previous = current;
+                        }
+                        return increasing;
+                    }))
+                    .toList();
+            for (final var future : futures) {
+                ordered.add(future.get());
+            }
+        }
+
+        assertEquals(64 * 1001, seen.size());
+        assertTrue(ordered.stream().allMatch(Boolean::booleanValue));
+    }
+
+    private static int compare(UUID left, UUID right) {
+        final int byMostSignificant = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return byMostSignificant != 0 ? byMostSignificant : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.config.BatchProperties;
+import io.github.dfnabiullin.taskmanager.task.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchRepositoryImplTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    private TaskBatchRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TaskBatchRepositoryImpl(jdbcTemplate, new BatchProperties(10000, 500));
+    }
+
+    @Test
+    void insertAll_whenEmpty_shouldNotTouchDatabase() {
+        repository.insertAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void insertAll_shouldInsertTasksInConfiguredChunks() {
+        final List<Task> tasks = IntStream.range(0, 120).mapToObj(i -> createTask()).toList();
+
+        repository.insertAll(tasks);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(tasks), eq(500), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private Task createTask() {
+        final var task = new Task();
+        task.setUuid(UUID.randomUUID());
+        task.setDescription("Task");
+        return task;
+    }
+}
\ No newline at end of file
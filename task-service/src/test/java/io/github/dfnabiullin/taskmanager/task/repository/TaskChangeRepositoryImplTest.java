@@ -0,0 +1,107 @@
+package io.github.dfnabiullin.taskmanager.task.repository;
+
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangeDto;
+import io.github.dfnabiullin.taskmanager.task.model.TaskChangeType;
+import io.github.dfnabiullin.taskmanager.task.model.UuidV7;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TaskChangeRepositoryImplTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+    private TaskChangeRepositoryImpl repository;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new TaskChangeRepositoryImpl(new JdbcTemplate(new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())));
+    }
+
+    @Test
+    void findChangesAfter_whenWritersOverlap_shouldNotBlockThemAndHoldBackChangesUntilOlderWritersFinish() throws SQLException {
+        final UUID firstUuid = UuidV7.next();
+        final UUID secondUuid = UuidV7.next();
+
+        try (Connection first = openTransaction(); Connection second = openTransaction()) {
+            execute(first, "INSERT INTO tasks (uuid, description) VALUES (?, 'first')", firstUuid);
+            execute(second, "INSERT INTO tasks (uuid, description) VALUES (?, 'second')", secondUuid);
+            second.commit();
+
+            assertEquals(List.of(), findChangedUuids(Set.of(firstUuid, secondUuid)));
+
+            first.commit();
+        }
+
+        assertEquals(List.of(firstUuid, secondUuid), findChangedUuids(Set.of(firstUuid, secondUuid)));
+    }
+
+    @Test
+    void findChangesAfter_whenTaskChangesRepeatedly_shouldKeepOnlyLatestChange() throws SQLException {
+        final UUID initialUuid = UuidV7.next();
+
+        try (Connection connection = openTransaction()) {
+            execute(connection, "INSERT INTO tasks (uuid, description) VALUES (?, 'created')", initialUuid);
+            connection.commit();
+            execute(connection, "UPDATE tasks SET description = 'updated' WHERE uuid = ?", initialUuid);
+            connection.commit();
+            execute(connection, "DELETE FROM tasks WHERE uuid = ?", initialUuid);
+            connection.commit();
+        }
+
+        final List<TaskChangeDto> actualChanges = repository.findChangesAfter(0L, 0L, 10000).stream()
+                .map(TaskChangeHit::change)
+                .filter(change -> change.uuid().equals(initialUuid))
+                .toList();
+
+        assertEquals(List.of(new TaskChangeDto(initialUuid, TaskChangeType.DELETED, null)), actualChanges);
+    }
+
+    private List<UUID> findChangedUuids(Set<UUID> uuids) {
+        return repository.findChangesAfter(0L, 0L, 10000).stream()
+                .map(hit -> hit.change().uuid())
+                .filter(uuids::contains)
+                .toList();
+    }
+
+    private static Connection openTransaction() throws SQLException {
+        final Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET lock_timeout = '2s'");
+        }
+        return connection;
+    }
+
+    private static void execute(Connection connection, String sql, UUID uuid) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, uuid);
+            statement.executeUpdate();
+        }
+    }
+}
\ No newline at end of file
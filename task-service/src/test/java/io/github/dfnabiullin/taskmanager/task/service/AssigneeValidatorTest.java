@@ -0,0 +1,242 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import feign.FeignException;
+import io.github.dfnabiullin.taskmanager.task.client.UserClient;
+import io.github.dfnabiullin.taskmanager.task.client.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.task.client.UserExistsResponseDto;
+import io.github.dfnabiullin.taskmanager.task.config.CacheConfig;
+import io.github.dfnabiullin.taskmanager.task.exception.UserServiceUnavailableException;
+import io.github.dfnabiullin.taskmanager.task.exception.UserValidationException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssigneeValidatorTest {
+    @Mock
+    private UserClient userClient;
+    @Mock
+    private UserDirectory userDirectory;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private AssigneeValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        validator = new AssigneeValidator(userClient, userDirectory, new ConcurrentMapCacheManager(CacheConfig.ASSIGNEES_CACHE), meterRegistry, circuitBreakerRegistry, BulkheadRegistry.ofDefaults());
+    }
+
+    @Test
+    void validate_whenAssigneeIsNull_shouldNotCallUserClient() {
+        validator.validate(null);
+
+        verify(userClient, never()).checkUserExists(any());
+    }
+
+    @Test
+    void validate_whenDirectoryIsFreshAndContainsAssignee_shouldNotCallUserClient() {
+        final UUID initialUuid = createDefaultUuid();
+
+        when(userDirectory.isFresh()).thenReturn(true);
+        when(userDirectory.contains(initialUuid)).thenReturn(true);
+
+        validator.validate(initialUuid);
+        final AssigneeCheck actualCheck = validator.check(List.of(initialUuid));
+
+        assertEquals(new AssigneeCheck(Set.of(), Set.of()), actualCheck);
+        verify(userClient, never()).checkUserExists(any());
+        verify(userClient, never()).findExistingUsers(any());
+    }
+
+    @Test
+    void validate_whenDirectoryIsStale_shouldCallUserClient() {
+        final UUID initialUuid = createDefaultUuid();
+
+        when(userDirectory.isFresh()).thenReturn(false);
+
+        validator.validate(initialUuid);
+
+        verify(userDirectory, never()).contains(any());
+        verify(userClient, times(1)).checkUserExists(initialUuid);
+    }
+
+    @Test
+    void validate_whenAssigneeExists_shouldCallUserClientOnce() {
+        final UUID initialUuid = createDefaultUuid();
+
+        validator.validate(initialUuid);
+        validator.validate(initialUuid);
+
+        verify(userClient, times(1)).checkUserExists(initialUuid);
+    }
+
+    @Test
+    void validate_whenAssigneeDoesNotExist_shouldCacheNegativeResult() {
+        final UUID initialUuid = createDefaultUuid();
+
+        doThrow(FeignException.NotFound.class).when(userClient).checkUserExists(initialUuid);
+
+        assertThrows(UserValidationException.class, () -> validator.validate(initialUuid));
+        assertThrows(UserValidationException.class, () -> validator.validate(initialUuid));
+
+        verify(userClient, times(1)).checkUserExists(initialUuid);
+    }
+
+    @Test
+    void validate_whenUserClientFails_shouldNotCacheResult() {
+        final UUID initialUuid = createDefaultUuid();
+
+        doThrow(FeignException.InternalServerError.class).doNothing().when(userClient).checkUserExists(initialUuid);
+
+        assertThrows(UserServiceUnavailableException.class, () -> validator.validate(initialUuid));
+        assertDoesNotThrow(() -> validator.validate(initialUuid));
+
+        verify(userClient, times(2)).checkUserExists(initialUuid);
+    }
+
+    @Test
+    void validate_shouldRecordUserClientTimerAndErrors() {
+        final UUID existingUuid = createDefaultUuid();
+        final UUID missingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final UUID failingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+
+        doThrow(FeignException.NotFound.class).when(userClient).checkUserExists(missingUuid);
+        doThrow(FeignException.InternalServerError.class).when(userClient).checkUserExists(failingUuid);
+
+        validator.validate(existingUuid);
+        assertThrows(UserValidationException.class, () -> validator.validate(missingUuid));
+        assertThrows(UserServiceUnavailableException.class, () -> validator.validate(failingUuid));
+
+        assertEquals(3, meterRegistry.get("user.client.requests").tag("method", "checkUserExists").timer().count());
+        assertEquals(1.0, meterRegistry.get("user.client.errors").tag("method", "checkUserExists").counter().count());
+    }
+
+    @Test
+    void validate_whenCircuitBreakerIsOpen_shouldFailFastWithoutCallingUserClient() {
+        final UUID initialUuid = createDefaultUuid();
+
+        circuitBreakerRegistry.circuitBreaker("user-service").transitionToOpenState();
+
+        assertThrows(UserServiceUnavailableException.class, () -> validator.validate(initialUuid));
+
+        verify(userClient, never()).checkUserExists(any());
+    }
+
+    @Test
+    void validate_whenUserServiceIsUnavailableAndDirectoryContainsAssignee_shouldAcceptAssignee() {
+        final UUID initialUuid = createDefaultUuid();
+
+        circuitBreakerRegistry.circuitBreaker("user-service").transitionToOpenState();
+        when(userDirectory.isUsableDuringOutage()).thenReturn(true);
+        when(userDirectory.contains(initialUuid)).thenReturn(true);
+
+        assertDoesNotThrow(() -> validator.validate(initialUuid));
+    }
+
+    @Test
+    void validate_whenUserServiceIsUnavailableAndDirectoryIsTooOld_shouldThrowUserServiceUnavailableException() {
+        final UUID initialUuid = createDefaultUuid();
+
+        circuitBreakerRegistry.circuitBreaker("user-service").transitionToOpenState();
+        when(userDirectory.isUsableDuringOutage()).thenReturn(false);
+
+        assertThrows(UserServiceUnavailableException.class, () -> validator.validate(initialUuid));
+        verify(userDirectory, never()).contains(any());
+    }
+
+    @Test
+    void check_whenCircuitBreakerIsOpen_shouldMarkOnlyUnresolvedAssigneesUnavailable() {
+        final UUID cachedUuid = createDefaultUuid();
+        final UUID missingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final UUID directoryUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        final UUID unknownUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+
+        doThrow(FeignException.NotFound.class).when(userClient).checkUserExists(missingUuid);
+        validator.validate(cachedUuid);
+        assertThrows(UserValidationException.class, () -> validator.validate(missingUuid));
+        circuitBreakerRegistry.circuitBreaker("user-service").transitionToOpenState();
+        when(userDirectory.isUsableDuringOutage()).thenReturn(true);
+        when(userDirectory.contains(any())).thenAnswer(invocation -> directoryUuid.equals(invocation.getArgument(0)));
+
+        final AssigneeCheck actualCheck = validator.check(List.of(cachedUuid, missingUuid, directoryUuid, unknownUuid));
+
+        assertEquals(new AssigneeCheck(Set.of(missingUuid), Set.of(unknownUuid)), actualCheck);
+        verify(userClient, never()).findExistingUsers(any());
+    }
+
+    @Test
+    void check_whenUserServiceIsUnavailableAndDirectoryIsTooOld_shouldMarkAssigneesUnavailable() {
+        final UUID initialUuid = createDefaultUuid();
+
+        circuitBreakerRegistry.circuitBreaker("user-service").transitionToOpenState();
+        when(userDirectory.isUsableDuringOutage()).thenReturn(false);
+
+        final AssigneeCheck actualCheck = validator.check(List.of(initialUuid));
+
+        assertEquals(new AssigneeCheck(Set.of(), Set.of(initialUuid)), actualCheck);
+        verify(userDirectory, never()).contains(any());
+    }
+
+    @Test
+    void check_shouldCheckUncachedAssigneesInOneCall() {
+        final UUID existingUuid = createDefaultUuid();
+        final UUID missingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(userClient.findExistingUsers(any(UserExistsRequestDto.class))).thenReturn(new UserExistsResponseDto(Set.of(existingUuid)));
+
+        final AssigneeCheck actualCheck = validator.check(Arrays.asList(existingUuid, missingUuid, existingUuid, null));
+
+        assertEquals(new AssigneeCheck(Set.of(missingUuid), Set.of()), actualCheck);
+        verify(userClient, times(1)).findExistingUsers(new UserExistsRequestDto(Set.of(existingUuid, missingUuid)));
+
+        validator.validate(existingUuid);
+        assertThrows(UserValidationException.class, () -> validator.validate(missingUuid));
+        verify(userClient, never()).checkUserExists(any());
+    }
+
+    @Test
+    void check_whenUserClientFails_shouldTreatAssigneesAsUnavailable() {
+        final UUID initialUuid = createDefaultUuid();
+
+        when(userClient.findExistingUsers(any(UserExistsRequestDto.class))).thenThrow(FeignException.InternalServerError.class);
+
+        final AssigneeCheck actualCheck = validator.check(List.of(initialUuid));
+
+        assertEquals(new AssigneeCheck(Set.of(), Set.of(initialUuid)), actualCheck);
+        assertEquals(1.0, meterRegistry.get("user.client.errors").tag("method", "findExistingUsers").counter().count());
+    }
+
+    @Test
+    void evict_shouldForceNextValidationToCallUserClient() {
+        final UUID initialUuid = createDefaultUuid();
+
+        validator.validate(initialUuid);
+        validator.evict(initialUuid);
+        validator.validate(initialUuid);
+
+        verify(userClient, times(2)).checkUserExists(initialUuid);
+    }
+
+    private UUID createDefaultUuid() {
+        return UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    }
+}
\ No newline at end of file
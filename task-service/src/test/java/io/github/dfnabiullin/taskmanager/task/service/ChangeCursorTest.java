@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeCursorTest {
+
+    @Test
+    void decode_whenCursorIsEncoded_shouldReturnSameXidAndSeq() {
+        final var initialCursor = new ChangeCursor(1_000_000_007L, 42L);
+
+        final ChangeCursor actualCursor = ChangeCursor.decode(initialCursor.encode());
+
+        assertEquals(initialCursor, actualCursor);
+    }
+
+    @Test
+    void decode_whenCursorIsAbsent_shouldReturnStartOfFeed() {
+        assertEquals(new ChangeCursor(0L, 0L), ChangeCursor.decode(null));
+        assertEquals(new ChangeCursor(0L, 0L), ChangeCursor.decode(""));
+    }
+
+    @Test
+    void decode_whenCursorIsNotBase64_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> ChangeCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void decode_whenCursorIsSearchCursor_shouldThrowInvalidCursorException() {
+        final String searchCursor = new SearchCursor(0.0607927f, UUID.fromString("123e4567-e89b-12d3-a456-426614174001")).encode();
+
+        assertThrows(InvalidCursorException.class, () -> ChangeCursor.decode(searchCursor));
+    }
+}
\ No newline at end of file
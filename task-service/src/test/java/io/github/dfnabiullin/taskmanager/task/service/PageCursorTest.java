@@ -0,0 +1,37 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void decode_whenCursorIsEncodedUuid_shouldReturnSameUuid() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        final UUID actualUuid = PageCursor.decode(PageCursor.encode(initialUuid));
+
+        assertEquals(initialUuid, actualUuid);
+    }
+
+    @Test
+    void decode_whenCursorIsAbsent_shouldReturnFirstPage() {
+        assertEquals(PageCursor.FIRST_PAGE, PageCursor.decode(null));
+        assertEquals(PageCursor.FIRST_PAGE, PageCursor.decode(""));
+    }
+
+    @Test
+    void decode_whenCursorIsNotBase64_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void decode_whenCursorHasWrongLength_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("AAAA"));
+    }
+}
\ No newline at end of file
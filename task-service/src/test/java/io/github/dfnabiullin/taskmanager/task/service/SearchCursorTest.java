@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+    @Test
+    void decode_whenCursorIsEncoded_shouldReturnSameRankAndUuid() {
+        final var initialCursor = new SearchCursor(0.0607927f, UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+
+        final SearchCursor actualCursor = SearchCursor.decode(initialCursor.encode());
+
+        assertEquals(initialCursor, actualCursor);
+    }
+
+    @Test
+    void decode_whenCursorIsAbsent_shouldReturnFirstPage() {
+        assertNull(SearchCursor.decode(null));
+        assertNull(SearchCursor.decode(""));
+    }
+
+    @Test
+    void decode_whenCursorIsNotBase64_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> SearchCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void decode_whenCursorIsPageCursor_shouldThrowInvalidCursorException() {
+        final String pageCursor = PageCursor.encode(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+
+        assertThrows(InvalidCursorException.class, () -> SearchCursor.decode(pageCursor));
+    }
+}
\ No newline at end of file
@@ -1,25 +1,64 @@
 package io.github.dfnabiullin.taskmanager.task.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.dfnabiullin.taskmanager.task.config.BatchProperties;
+import io.github.dfnabiullin.taskmanager.task.config.PaginationProperties;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskBatchItemResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangeDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskPageResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskPatchRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignRequestDto;
+import io.github.dfnabiullin.taskmanager.task.dto.TaskReassignResponseDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskRequestDto;
 import io.github.dfnabiullin.taskmanager.task.dto.TaskResponseDto;
+import io.github.dfnabiullin.taskmanager.task.exception.BatchTooLargeException;
+import io.github.dfnabiullin.taskmanager.task.exception.InvalidCursorException;
 import io.github.dfnabiullin.taskmanager.task.exception.TaskNotFoundException;
+import io.github.dfnabiullin.taskmanager.task.exception.TaskVersionMismatchException;
+import io.github.dfnabiullin.taskmanager.task.exception.UserServiceUnavailableException;
+import io.github.dfnabiullin.taskmanager.task.exception.UserValidationException;
 import io.github.dfnabiullin.taskmanager.task.mapper.TaskMapper;
 import io.github.dfnabiullin.taskmanager.task.model.Task;
+import io.github.dfnabiullin.taskmanager.task.model.TaskChangeType;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskChangeHit;
 import io.github.dfnabiullin.taskmanager.task.repository.TaskRepository;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskResponseVersion;
+import io.github.dfnabiullin.taskmanager.task.repository.TaskSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +67,23 @@ class TaskServiceTest {
     private TaskRepository repository;
     @Mock
     private TaskMapper mapper;
+    @Mock
+    private AssigneeValidator assigneeValidator;
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(50, 500);
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties(3, 2);
+    @Mock
+    private Validator validator;
+    @Mock
+    private MessageSource messageSource;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
     @InjectMocks
     private TaskService service;
 
@@ -43,6 +99,7 @@ class TaskServiceTest {
         savedTask.setAssigneeUuid(createDefaultUuid());
         savedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
         savedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        savedTask.setVersion(0L);
 
         final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
 
@@ -50,9 +107,11 @@ class TaskServiceTest {
         when(repository.save(any(Task.class))).thenReturn(savedTask);
         when(mapper.toResponseDto(any(Task.class))).thenReturn(expectedTaskResponseDto);
 
-        final TaskResponseDto actualTaskResponseDto = service.createTask(initialTaskRequestDto);
+        final Versioned<TaskResponseDto> actualTask = service.createTask(initialTaskRequestDto);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals(new Versioned<>(expectedTaskResponseDto, 0L), actualTask);
+
+        verify(assigneeValidator, times(1)).validate(initialTaskRequestDto.assigneeUuid());
 
         final ArgumentCaptor<TaskRequestDto> captorInitialTask = ArgumentCaptor.forClass(TaskRequestDto.class);
         verify(mapper, times(1)).fromRequestDto(captorInitialTask.capture());
@@ -72,161 +131,389 @@ class TaskServiceTest {
         assertEquals(savedTask.getUuid(), captorSavedTask.getValue().getUuid());
     }
 
+    @Test
+    void createTasks_shouldInsertValidTasksAndRejectInvalidAssignees() {
+        final UUID invalidAssigneeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        final var validTaskRequestDto = createDefaultTaskRequestDto();
+        final var invalidTaskRequestDto = new TaskRequestDto(invalidAssigneeUuid, "Lorem ipsum");
+
+        final var mappedTask = new Task();
+        mappedTask.setAssigneeUuid(createDefaultUuid());
+        mappedTask.setDescription(validTaskRequestDto.description());
+
+        final var createdTaskResponseDto = createDefaultTaskResponseDto();
+
+        when(assigneeValidator.check(anyList())).thenReturn(new AssigneeCheck(Set.of(invalidAssigneeUuid), Set.of()));
+        when(validator.validate(any(TaskRequestDto.class))).thenReturn(Set.of());
+        when(messageSource.getMessage(eq("error.user.notValid"), any(), any(Locale.class))).thenReturn("User not valid with uuid 123e4567-e89b-12d3-a456-426614174002");
+        when(mapper.fromRequestDto(validTaskRequestDto)).thenReturn(mappedTask);
+        when(mapper.toResponseDto(mappedTask)).thenReturn(createdTaskResponseDto);
+
+        final List<TaskBatchItemResponseDto> actualResults = service.createTasks(List.of(validTaskRequestDto, invalidTaskRequestDto));
+
+        assertEquals(List.of(new TaskBatchItemResponseDto(0, 201, createdTaskResponseDto, null), new TaskBatchItemResponseDto(1, 400, null, "User not valid with uuid 123e4567-e89b-12d3-a456-426614174002")), actualResults);
+
+        verify(assigneeValidator, times(1)).check(List.of(createDefaultUuid(), invalidAssigneeUuid));
+        verify(repository, times(1)).insertAll(List.of(mappedTask));
+        assertNotNull(mappedTask.getUuid());
+    }
+
+    @Test
+    void createTasks_whenItemViolatesConstraints_shouldRejectOnlyThatItem() {
+        final var invalidTaskRequestDto = new TaskRequestDto(createDefaultUuid(), "");
+
+        @SuppressWarnings("unchecked")
+        final ConstraintViolation<TaskRequestDto> violation = mock(ConstraintViolation.class);
+
+        when(assigneeValidator.check(anyList())).thenReturn(new AssigneeCheck(Set.of(), Set.of()));
+        when(validator.validate(any(TaskRequestDto.class))).thenReturn(Set.of(violation));
+        when(violation.getMessage()).thenReturn("The description cannot be blank");
+
+        final List<TaskBatchItemResponseDto> actualResults = service.createTasks(List.of(invalidTaskRequestDto));
+
+        assertEquals(List.of(new TaskBatchItemResponseDto(0, 400, null, "The description cannot be blank")), actualResults);
+
+        verify(assigneeValidator, times(1)).check(List.of(createDefaultUuid()));
+        verify(repository, times(1)).insertAll(List.of());
+    }
+
+    @Test
+    void createTasks_whenItemIsNull_shouldRejectOnlyThatItem() {
+        final var validTaskRequestDto = createDefaultTaskRequestDto();
+        final List<TaskRequestDto> initialTaskRequestDtos = new ArrayList<>();
+        initialTaskRequestDtos.add(null);
+        initialTaskRequestDtos.add(validTaskRequestDto);
+
+        final var mappedTask = new Task();
+        final var createdTaskResponseDto = createDefaultTaskResponseDto();
+
+        when(assigneeValidator.check(anyList())).thenReturn(new AssigneeCheck(Set.of(), Set.of()));
+        when(validator.validate(validTaskRequestDto)).thenReturn(Set.of());
+        when(messageSource.getMessage(eq("error.batch.itemNull"), any(), any(Locale.class))).thenReturn("Batch item must not be null");
+        when(mapper.fromRequestDto(validTaskRequestDto)).thenReturn(mappedTask);
+        when(mapper.toResponseDto(mappedTask)).thenReturn(createdTaskResponseDto);
+
+        final List<TaskBatchItemResponseDto> actualResults = service.createTasks(initialTaskRequestDtos);
+
+        assertEquals(List.of(new TaskBatchItemResponseDto(0, 400, null, "Batch item must not be null"), new TaskBatchItemResponseDto(1, 201, createdTaskResponseDto, null)), actualResults);
+
+        verify(assigneeValidator, times(1)).check(List.of(createDefaultUuid()));
+        verify(repository, times(1)).insertAll(List.of(mappedTask));
+    }
+
+    @Test
+    void createTasks_whenAssigneeIsUnavailable_shouldRejectOnlyThatItemWith503() {
+        final UUID unavailableAssigneeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        final var validTaskRequestDto = createDefaultTaskRequestDto();
+        final var unavailableTaskRequestDto = new TaskRequestDto(unavailableAssigneeUuid, "Lorem ipsum");
+
+        final var mappedTask = new Task();
+        final var createdTaskResponseDto = createDefaultTaskResponseDto();
+
+        when(assigneeValidator.check(anyList())).thenReturn(new AssigneeCheck(Set.of(), Set.of(unavailableAssigneeUuid)));
+        when(validator.validate(any(TaskRequestDto.class))).thenReturn(Set.of());
+        when(messageSource.getMessage(eq("error.user.unavailable"), any(), any(Locale.class))).thenReturn("User service is temporarily unavailable");
+        when(mapper.fromRequestDto(validTaskRequestDto)).thenReturn(mappedTask);
+        when(mapper.toResponseDto(mappedTask)).thenReturn(createdTaskResponseDto);
+
+        final List<TaskBatchItemResponseDto> actualResults = service.createTasks(List.of(validTaskRequestDto, unavailableTaskRequestDto));
+
+        assertEquals(List.of(new TaskBatchItemResponseDto(0, 201, createdTaskResponseDto, null), new TaskBatchItemResponseDto(1, 503, null, "User service is temporarily unavailable")), actualResults);
+
+        verify(repository, times(1)).insertAll(List.of(mappedTask));
+    }
+
+    @Test
+    void createTasks_whenAssigneeLookupFails_shouldPropagateFailureAndInsertNothing() {
+        when(assigneeValidator.check(anyList())).thenThrow(new UserServiceUnavailableException(new RuntimeException("timeout")));
+
+        assertThrows(UserServiceUnavailableException.class, () -> service.createTasks(List.of(createDefaultTaskRequestDto())));
+
+        verify(repository, never()).insertAll(any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void createTasks_whenBatchTooLarge_shouldThrowBatchTooLargeException() {
+        final List<TaskRequestDto> initialTaskRequestDtos = List.of(createDefaultTaskRequestDto(), createDefaultTaskRequestDto(), createDefaultTaskRequestDto(), createDefaultTaskRequestDto());
+
+        assertThrows(BatchTooLargeException.class, () -> service.createTasks(initialTaskRequestDtos));
+
+        verify(assigneeValidator, never()).check(any());
+        verify(repository, never()).insertAll(any());
+    }
+
+    @Test
+    void createTask_shouldValidateAssigneeBeforeOpeningTransaction() {
+        final var initialTaskRequestDto = createDefaultTaskRequestDto();
+
+        final var savedTask = new Task();
+        savedTask.setVersion(0L);
+
+        when(mapper.fromRequestDto(any(TaskRequestDto.class))).thenReturn(new Task());
+        when(repository.save(any(Task.class))).thenReturn(savedTask);
+
+        service.createTask(initialTaskRequestDto);
+
+        final InOrder inOrder = inOrder(assigneeValidator, transactionManager, repository);
+        inOrder.verify(assigneeValidator).validate(initialTaskRequestDto.assigneeUuid());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(repository).save(any(Task.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void createTask_whenAssigneeIsNotValid_shouldNotOpenTransaction() {
+        final var initialTaskRequestDto = createDefaultTaskRequestDto();
+
+        doThrow(new UserValidationException(initialTaskRequestDto.assigneeUuid())).when(assigneeValidator).validate(any());
+
+        assertThrows(UserValidationException.class, () -> service.createTask(initialTaskRequestDto));
+
+        verifyNoInteractions(transactionManager, repository);
+    }
+
     @Test
     void getTaskByUuid_whenTaskExists_shouldReturnTask() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
-        final var existingTask = new Task();
-        existingTask.setAssigneeUuid(createDefaultUuid());
-        existingTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
-        existingTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
-
         final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingTask));
-        when(mapper.toResponseDto(any(Task.class))).thenReturn(expectedTaskResponseDto);
+        when(repository.findResponseByUuid(any(UUID.class))).thenReturn(Optional.of(new TaskResponseVersion(expectedTaskResponseDto, 3L)));
 
-        final TaskResponseDto actualTaskResponseDto = service.getTaskByUuid(initialUuid);
+        final Versioned<TaskResponseDto> actualTask = service.getTaskByUuid(initialUuid);
 
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        assertEquals(new Versioned<>(expectedTaskResponseDto, 3L), actualTask);
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
+        verify(repository, times(1)).findResponseByUuid(captorInitialUuid.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
 
-        final ArgumentCaptor<Task> captorExistingTask = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(1)).toResponseDto(captorExistingTask.capture());
-        assertEquals(existingTask.getAssigneeUuid(), captorExistingTask.getValue().getAssigneeUuid());
-        assertEquals(existingTask.getDescription(), captorExistingTask.getValue().getDescription());
-        assertEquals(existingTask.getUuid(), captorExistingTask.getValue().getUuid());
+        verify(repository, never()).findVersionByUuid(any());
+        verify(repository, never()).findById(any());
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
     void getTaskByUuid_whenTaskDoesNotExist_shouldThrowTaskNotFoundException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.findResponseByUuid(any(UUID.class))).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> service.getTaskByUuid(initialUuid));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).findResponseByUuid(initialUuid);
+        verify(repository, never()).findVersionByUuid(any());
     }
 
     @Test
-    void getAllTasks_whenTasksExist_shouldReturnTaskList() {
-        final var existingTask1 = new Task();
-        existingTask1.setAssigneeUuid(createDefaultUuid());
-        existingTask1.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
-        existingTask1.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+    void getTaskVersion_whenTaskExists_shouldReturnVersionOnly() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
-        final var existingTask2 = new Task();
-        existingTask2.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
-        existingTask2.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
-        existingTask2.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"));
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.of(7L));
 
+        assertEquals(7L, service.getTaskVersion(initialUuid));
+
+        verify(repository, never()).findResponseByUuid(any());
+    }
+
+    @Test
+    void getAllTasks_whenTasksExist_shouldReturnTaskPage() {
         final var expectedTaskResponseDto1 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
 
         final var expectedTaskResponseDto2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        final List<TaskResponseDto> expectedList = List.of(expectedTaskResponseDto1, expectedTaskResponseDto2);
+        final var expectedPage = new TaskPageResponseDto(List.of(expectedTaskResponseDto1, expectedTaskResponseDto2), null);
 
-        when(repository.findAll()).thenReturn(List.of(existingTask1, existingTask2));
-        when(mapper.toResponseDto(any(Task.class))).thenReturn(expectedTaskResponseDto1, expectedTaskResponseDto2);
+        when(repository.findByUuidGreaterThanOrderByUuid(any(UUID.class), any(Limit.class))).thenReturn(List.of(expectedTaskResponseDto1, expectedTaskResponseDto2));
 
-        final List<TaskResponseDto> actualList = service.getAllTasks();
+        final TaskPageResponseDto actualPage = service.getAllTasks(null, false, null, null);
 
-        assertIterableEquals(expectedList, actualList);
+        assertEquals(expectedPage, actualPage);
 
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findByUuidGreaterThanOrderByUuid(new UUID(0L, 0L), Limit.of(51));
 
-        final ArgumentCaptor<Task> captorExistingTask = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(2)).toResponseDto(captorExistingTask.capture());
-        final List<Task> captorList = captorExistingTask.getAllValues();
-        assertEquals(existingTask1.getAssigneeUuid(), captorList.getFirst().getAssigneeUuid());
-        assertEquals(existingTask1.getDescription(), captorList.getFirst().getDescription());
-        assertEquals(existingTask1.getUuid(), captorList.getFirst().getUuid());
-        assertEquals(existingTask2.getAssigneeUuid(), captorList.get(1).getAssigneeUuid());
-        assertEquals(existingTask2.getDescription(), captorList.get(1).getDescription());
-        assertEquals(existingTask2.getUuid(), captorList.get(1).getUuid());
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void getAllTasks_whenNoTasksExist_shouldReturnEmptyList() {
-        final List<TaskResponseDto> expectedList = List.of();
+    void getAllTasks_whenMoreTasksThanLimit_shouldReturnNextCursor() {
+        final String initialCursor = PageCursor.encode(createDefaultUuid());
+
+        final var existingTaskResponseDto1 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
+
+        final var existingTaskResponseDto2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
+
+        final var expectedPage = new TaskPageResponseDto(List.of(existingTaskResponseDto1), PageCursor.encode(UUID.fromString("123e4567-e89b-12d3-a456-426614174001")));
+
+        when(repository.findByUuidGreaterThanOrderByUuid(any(UUID.class), any(Limit.class))).thenReturn(List.of(existingTaskResponseDto1, existingTaskResponseDto2));
 
-        when(repository.findAll()).thenReturn(List.of());
+        final TaskPageResponseDto actualPage = service.getAllTasks(null, false, initialCursor, 1);
 
-        final List<TaskResponseDto> actualList = service.getAllTasks();
+        assertEquals(expectedPage, actualPage);
+
+        verify(repository, times(1)).findByUuidGreaterThanOrderByUuid(createDefaultUuid(), Limit.of(2));
+    }
+
+    @Test
+    void getAllTasks_whenLimitExceedsMaximum_shouldClampLimit() {
+        when(repository.findByUuidGreaterThanOrderByUuid(any(UUID.class), any(Limit.class))).thenReturn(List.of());
 
-        assertIterableEquals(expectedList, actualList);
+        service.getAllTasks(null, false, null, 100_000);
 
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findByUuidGreaterThanOrderByUuid(new UUID(0L, 0L), Limit.of(501));
+    }
+
+    @Test
+    void getAllTasks_whenAssigneeIsGiven_shouldQueryByAssignee() {
+        when(repository.findByAssigneeUuidAndUuidGreaterThanOrderByUuid(any(UUID.class), any(UUID.class), any(Limit.class))).thenReturn(List.of());
+
+        service.getAllTasks(createDefaultUuid(), false, null, 10);
+
+        verify(repository, times(1)).findByAssigneeUuidAndUuidGreaterThanOrderByUuid(createDefaultUuid(), new UUID(0L, 0L), Limit.of(11));
+        verify(repository, never()).findByUuidGreaterThanOrderByUuid(any(), any());
+    }
+
+    @Test
+    void getAllTasks_whenUnassignedIsRequested_shouldQueryUnassignedTasks() {
+        when(repository.findByAssigneeUuidIsNullAndUuidGreaterThanOrderByUuid(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+
+        service.getAllTasks(null, true, null, 10);
+
+        verify(repository, times(1)).findByAssigneeUuidIsNullAndUuidGreaterThanOrderByUuid(new UUID(0L, 0L), Limit.of(11));
+        verify(repository, never()).findByUuidGreaterThanOrderByUuid(any(), any());
+    }
+
+    @Test
+    void getAllTasks_whenNoTasksExist_shouldReturnEmptyPage() {
+        final var expectedPage = new TaskPageResponseDto(List.of(), null);
+
+        when(repository.findByUuidGreaterThanOrderByUuid(any(UUID.class), any(Limit.class))).thenReturn(List.of());
+
+        final TaskPageResponseDto actualPage = service.getAllTasks(null, false, null, null);
+
+        assertEquals(expectedPage, actualPage);
 
         verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void putTaskByUuid_whenTaskExists_shouldUpdateAndReturnTask() {
-        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-        final var initialTaskRequestDto = new TaskRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
+    void getAllTasks_whenCursorIsNotValid_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> service.getAllTasks(null, false, "not a cursor", null));
 
-        final var mappedTask = new Task();
-        mappedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
-        mappedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
-        mappedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        verify(repository, never()).findByUuidGreaterThanOrderByUuid(any(), any());
+    }
+
+    @Test
+    void searchTasks_whenMoreHitsThanLimit_shouldReturnRankedPageWithNextCursor() {
+        final var expectedTaskResponseDto1 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Processing of nickel silver spoons");
+
+        final var expectedTaskResponseDto2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), null, "Polishing of nickel silver forks");
+
+        final var extraTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), null, "Nickel silver knives");
+
+        when(repository.search(any(String.class), anyInt())).thenReturn(List.of(
+                new TaskSearchHit(expectedTaskResponseDto1, 0.5f),
+                new TaskSearchHit(expectedTaskResponseDto2, 0.25f),
+                new TaskSearchHit(extraTaskResponseDto, 0.25f)));
 
-        final var existingTask = new Task();
-        existingTask.setAssigneeUuid(createDefaultUuid());
-        existingTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
-        existingTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        final TaskPageResponseDto actualPage = service.searchTasks("nickel silver", null, 2);
+
+        assertEquals(List.of(expectedTaskResponseDto1, expectedTaskResponseDto2), actualPage.items());
+        assertEquals(new SearchCursor(0.25f, expectedTaskResponseDto2.uuid()), SearchCursor.decode(actualPage.next()));
+
+        verify(repository, times(1)).search("nickel silver", 3);
+        verify(repository, never()).searchAfter(any(), anyFloat(), any(), anyInt());
+    }
+
+    @Test
+    void searchTasks_whenCursorIsGiven_shouldContinueAfterCursor() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174003");
+
+        when(repository.searchAfter(any(String.class), anyFloat(), any(UUID.class), anyInt())).thenReturn(List.of());
+
+        final TaskPageResponseDto actualPage = service.searchTasks("nickel", new SearchCursor(0.25f, initialUuid).encode(), null);
+
+        assertEquals(new TaskPageResponseDto(List.of(), null), actualPage);
+
+        verify(repository, times(1)).searchAfter("nickel", 0.25f, initialUuid, 51);
+    }
+
+    @Test
+    void searchTasks_whenQueryIsBlank_shouldReturnEmptyPageWithoutQuerying() {
+        final TaskPageResponseDto actualPage = service.searchTasks("  ", null, null);
+
+        assertEquals(new TaskPageResponseDto(List.of(), null), actualPage);
+
+        verify(repository, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void searchTasks_whenCursorIsNotValid_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> service.searchTasks("nickel", "not a cursor", null));
+
+        verify(repository, never()).searchAfter(any(), anyFloat(), any(), anyInt());
+    }
+
+    @Test
+    void exportTasks_shouldWriteOneLinePerTaskAndDetachIt() throws IOException {
+        final var existingTask1 = new Task();
+        existingTask1.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+
+        final var existingTask2 = new Task();
+        existingTask2.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"));
+
+        final var existingTaskResponseDto1 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "First");
+
+        final var existingTaskResponseDto2 = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), null, "Second");
+
+        final String expectedOutput = """
+                {"uuid":"123e4567-e89b-12d3-a456-426614174001","assigneeUuid":"123e4567-e89b-12d3-a456-426614174000","description":"First"}
+                {"uuid":"123e4567-e89b-12d3-a456-426614174003","assigneeUuid":null,"description":"Second"}
+                """;
+
+        when(repository.streamAll()).thenReturn(Stream.of(existingTask1, existingTask2));
+        when(mapper.toResponseDto(existingTask1)).thenReturn(existingTaskResponseDto1);
+        when(mapper.toResponseDto(existingTask2)).thenReturn(existingTaskResponseDto2);
+
+        final var outputStream = new ByteArrayOutputStream();
+        service.exportTasks(outputStream);
+
+        assertEquals(expectedOutput, outputStream.toString(StandardCharsets.UTF_8));
+
+        verify(entityManager, times(1)).detach(existingTask1);
+        verify(entityManager, times(1)).detach(existingTask2);
+    }
+
+    @Test
+    void putTaskByUuid_whenTaskExists_shouldUpdateAndReturnTask() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final var initialTaskRequestDto = new TaskRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
         final var updatedTask = new Task();
         updatedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
         updatedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
         updatedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        updatedTask.setVersion(4L);
 
-        final var savedTask = new Task();
-        savedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
-        savedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
-        savedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
-
-        final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
+        final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingTask));
-        when(mapper.updateTaskFromDto(any(TaskRequestDto.class), any(Task.class))).thenReturn(mappedTask);
-        when(repository.save(any(Task.class))).thenReturn(savedTask);
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(UUID.class), any(String.class))).thenReturn(Optional.of(updatedTask));
         when(mapper.toResponseDto(any(Task.class))).thenReturn(expectedTaskResponseDto);
 
-        final TaskResponseDto actualTaskResponseDto = service.putTaskByUuid(initialUuid, initialTaskRequestDto);
-
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        final Versioned<TaskResponseDto> actualTask = service.putTaskByUuid(initialUuid, 3L, initialTaskRequestDto);
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        assertEquals(new Versioned<>(expectedTaskResponseDto, 4L), actualTask);
 
-        final ArgumentCaptor<TaskRequestDto> captorInitialTask = ArgumentCaptor.forClass(TaskRequestDto.class);
-        final ArgumentCaptor<Task> captorExistingTask1 = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(1)).updateTaskFromDto(captorInitialTask.capture(), captorExistingTask1.capture());
-        assertEquals(initialTaskRequestDto.assigneeUuid(), captorInitialTask.getValue().assigneeUuid());
-        assertEquals(initialTaskRequestDto.description(), captorInitialTask.getValue().description());
-        assertEquals(existingTask.getAssigneeUuid(), captorExistingTask1.getValue().getAssigneeUuid());
-        assertEquals(existingTask.getDescription(), captorExistingTask1.getValue().getDescription());
-        assertEquals(existingTask.getUuid(), captorExistingTask1.getValue().getUuid());
+        verify(assigneeValidator, times(1)).validate(initialTaskRequestDto.assigneeUuid());
+        verify(repository, times(1)).updateByUuid(initialUuid, 3L, initialTaskRequestDto.assigneeUuid(), initialTaskRequestDto.description());
+        verify(repository, never()).findById(any());
 
         final ArgumentCaptor<Task> captorUpdatedTask = ArgumentCaptor.forClass(Task.class);
-        verify(repository, times(1)).save(captorUpdatedTask.capture());
+        verify(mapper, times(1)).toResponseDto(captorUpdatedTask.capture());
         assertEquals(updatedTask.getAssigneeUuid(), captorUpdatedTask.getValue().getAssigneeUuid());
         assertEquals(updatedTask.getDescription(), captorUpdatedTask.getValue().getDescription());
         assertEquals(updatedTask.getUuid(), captorUpdatedTask.getValue().getUuid());
-
-        final ArgumentCaptor<Task> captorSavedTask = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(1)).toResponseDto(captorSavedTask.capture());
-        assertEquals(savedTask.getAssigneeUuid(), captorSavedTask.getValue().getAssigneeUuid());
-        assertEquals(savedTask.getDescription(), captorSavedTask.getValue().getDescription());
-        assertEquals(savedTask.getUuid(), captorSavedTask.getValue().getUuid());
     }
 
     @Test
@@ -234,75 +521,68 @@ class TaskServiceTest {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         final var initialTaskRequestDto = new TaskRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.updateByUuid(any(UUID.class), isNull(), any(UUID.class), any(String.class))).thenReturn(Optional.empty());
 
-        assertThrows(TaskNotFoundException.class, () -> service.putTaskByUuid(initialUuid, initialTaskRequestDto));
+        assertThrows(TaskNotFoundException.class, () -> service.putTaskByUuid(initialUuid, null, initialTaskRequestDto));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).updateByUuid(initialUuid, null, initialTaskRequestDto.assigneeUuid(), initialTaskRequestDto.description());
+        verify(repository, never()).findVersionByUuid(any());
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void patchTaskByUuid_whenTaskExist_shouldPatchAndReturnTask() {
+    void putTaskByUuid_whenVersionIsStale_shouldThrowTaskVersionMismatchException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
-        final var initialTaskPatchRequestDto = new TaskPatchRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
+        final var initialTaskRequestDto = createDefaultTaskRequestDto();
 
-        final var mappedTask = new Task();
-        mappedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
-        mappedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
-        mappedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(UUID.class), any(String.class))).thenReturn(Optional.empty());
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.of(5L));
+
+        assertThrows(TaskVersionMismatchException.class, () -> service.putTaskByUuid(initialUuid, 3L, initialTaskRequestDto));
 
-        final var existingTask = new Task();
-        existingTask.setAssigneeUuid(createDefaultUuid());
-        existingTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
-        existingTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        verify(repository, times(1)).findVersionByUuid(initialUuid);
+        verify(mapper, never()).toResponseDto(any());
+    }
+
+    @Test
+    void putTaskByUuid_whenVersionIsGivenAndTaskDoesNotExist_shouldThrowTaskNotFoundException() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final var initialTaskRequestDto = createDefaultTaskRequestDto();
+
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(UUID.class), any(String.class))).thenReturn(Optional.empty());
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> service.putTaskByUuid(initialUuid, 3L, initialTaskRequestDto));
+    }
+
+    @Test
+    void patchTaskByUuid_whenTaskExist_shouldPatchAndReturnTask() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final var initialTaskPatchRequestDto = new TaskPatchRequestDto(null, "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
         final var patchedTask = new Task();
-        patchedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
+        patchedTask.setAssigneeUuid(createDefaultUuid());
         patchedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
         patchedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        patchedTask.setVersion(1L);
 
-        final var savedTask = new Task();
-        savedTask.setAssigneeUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
-        savedTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
-        savedTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
-
-        final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174003"), UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
+        final var expectedTaskResponseDto = new TaskResponseDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), createDefaultUuid(), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingTask));
-        when(mapper.patchTaskFromDto(any(TaskPatchRequestDto.class), any(Task.class))).thenReturn(mappedTask);
-        when(repository.save(any(Task.class))).thenReturn(savedTask);
+        when(repository.patchByUuid(any(UUID.class), isNull(), isNull(), any(String.class))).thenReturn(Optional.of(patchedTask));
         when(mapper.toResponseDto(any(Task.class))).thenReturn(expectedTaskResponseDto);
 
-        final TaskResponseDto actualTaskResponseDto = service.patchTaskByUuid(initialUuid, initialTaskPatchRequestDto);
-
-        assertEquals(expectedTaskResponseDto, actualTaskResponseDto);
+        final Versioned<TaskResponseDto> actualTask = service.patchTaskByUuid(initialUuid, null, initialTaskPatchRequestDto);
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        assertEquals(new Versioned<>(expectedTaskResponseDto, 1L), actualTask);
 
-        final ArgumentCaptor<TaskPatchRequestDto> captorInitialTask = ArgumentCaptor.forClass(TaskPatchRequestDto.class);
-        final ArgumentCaptor<Task> captorExistingTask1 = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(1)).patchTaskFromDto(captorInitialTask.capture(), captorExistingTask1.capture());
-        assertEquals(initialTaskPatchRequestDto.assigneeUuid(), captorInitialTask.getValue().assigneeUuid());
-        assertEquals(initialTaskPatchRequestDto.description(), captorInitialTask.getValue().description());
-        assertEquals(existingTask.getAssigneeUuid(), captorExistingTask1.getValue().getAssigneeUuid());
-        assertEquals(existingTask.getDescription(), captorExistingTask1.getValue().getDescription());
-        assertEquals(existingTask.getUuid(), captorExistingTask1.getValue().getUuid());
+        verify(repository, times(1)).patchByUuid(initialUuid, null, null, initialTaskPatchRequestDto.description());
+        verify(repository, never()).findById(any());
 
         final ArgumentCaptor<Task> captorPatchedTask = ArgumentCaptor.forClass(Task.class);
-        verify(repository, times(1)).save(captorPatchedTask.capture());
+        verify(mapper, times(1)).toResponseDto(captorPatchedTask.capture());
         assertEquals(patchedTask.getAssigneeUuid(), captorPatchedTask.getValue().getAssigneeUuid());
         assertEquals(patchedTask.getDescription(), captorPatchedTask.getValue().getDescription());
         assertEquals(patchedTask.getUuid(), captorPatchedTask.getValue().getUuid());
-
-        final ArgumentCaptor<Task> captorSavedTask = ArgumentCaptor.forClass(Task.class);
-        verify(mapper, times(1)).toResponseDto(captorSavedTask.capture());
-        assertEquals(savedTask.getAssigneeUuid(), captorSavedTask.getValue().getAssigneeUuid());
-        assertEquals(savedTask.getDescription(), captorSavedTask.getValue().getDescription());
-        assertEquals(savedTask.getUuid(), captorSavedTask.getValue().getUuid());
     }
 
     @Test
@@ -310,46 +590,150 @@ class TaskServiceTest {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
         final var initialTaskPatchRequestDto = new TaskPatchRequestDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.1");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.patchByUuid(any(UUID.class), isNull(), any(UUID.class), any(String.class))).thenReturn(Optional.empty());
 
-        assertThrows(TaskNotFoundException.class, () -> service.patchTaskByUuid(initialUuid, initialTaskPatchRequestDto));
+        assertThrows(TaskNotFoundException.class, () -> service.patchTaskByUuid(initialUuid, null, initialTaskPatchRequestDto));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).patchByUuid(initialUuid, null, initialTaskPatchRequestDto.assigneeUuid(), initialTaskPatchRequestDto.description());
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void deleteTaskByUuid_whenTaskExists_shouldCallDeleteOnRepository() {
-        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+    void findChanges_whenChangesExist_shouldReturnCursorOfLastChangeAsNext() {
+        final var upsertedChange = new TaskChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), TaskChangeType.UPSERTED, createDefaultTaskResponseDto());
 
-        final var existingTask = new Task();
-        existingTask.setAssigneeUuid(createDefaultUuid());
-        existingTask.setDescription("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.");
-        existingTask.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        final var deletedChange = new TaskChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174002"), TaskChangeType.DELETED, null);
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingTask));
+        final var expectedPage = new TaskChangePageResponseDto(List.of(upsertedChange, deletedChange), new ChangeCursor(901L, 7L).encode());
 
-        service.deleteTaskByUuid(initialUuid);
+        when(repository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of(new TaskChangeHit(upsertedChange, 900L, 5L), new TaskChangeHit(deletedChange, 901L, 7L)));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        final TaskChangePageResponseDto actualPage = service.findChanges(new ChangeCursor(899L, 4L).encode(), 100);
+
+        assertEquals(expectedPage, actualPage);
+
+        verify(repository, times(1)).findChangesAfter(899L, 4L, 100);
+    }
+
+    @Test
+    void findChanges_whenNoChangesExist_shouldKeepPosition() {
+        final String initialCursor = new ChangeCursor(899L, 42L).encode();
+
+        when(repository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        final TaskChangePageResponseDto actualPage = service.findChanges(initialCursor, 100_000);
+
+        assertEquals(new TaskChangePageResponseDto(List.of(), initialCursor), actualPage);
+
+        verify(repository, times(1)).findChangesAfter(899L, 42L, 10000);
+    }
+
+    @Test
+    void findChanges_whenCursorIsAbsent_shouldStartFromBeginning() {
+        when(repository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        service.findChanges(null, 100);
+
+        verify(repository, times(1)).findChangesAfter(0L, 0L, 100);
+    }
+
+    @Test
+    void reassignTasks_byAssignee_shouldUpdateInChunksUntilChunkIsNotFull() {
+        final UUID fromAssignee = createDefaultUuid();
+        final UUID toAssignee = UUID.fromString("123e4567-e89b-12d3-a456-426614174009");
+
+        when(repository.reassignChunk(any(UUID.class), any(UUID.class), anyInt())).thenReturn(2, 2, 1);
+
+        final TaskReassignResponseDto actualResult = service.reassignTasks(new TaskReassignRequestDto(fromAssignee, toAssignee, null));
+
+        assertEquals(new TaskReassignResponseDto(5), actualResult);
+
+        final InOrder inOrder = inOrder(assigneeValidator, repository);
+        inOrder.verify(assigneeValidator, times(1)).validate(toAssignee);
+        inOrder.verify(repository, times(3)).reassignChunk(fromAssignee, toAssignee, 2);
+        verify(repository, never()).reassignByUuids(any(), any(), any());
+    }
+
+    @Test
+    void reassignTasks_byUuids_shouldUpdateEachChunkOnce() {
+        final UUID toAssignee = UUID.fromString("123e4567-e89b-12d3-a456-426614174009");
+        final Set<UUID> taskUuids = Set.of(
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174001"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174002"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174003"));
+
+        when(repository.reassignByUuids(any(UUID[].class), isNull(), any(UUID.class))).thenReturn(2, 1);
+
+        final TaskReassignResponseDto actualResult = service.reassignTasks(new TaskReassignRequestDto(null, toAssignee, taskUuids));
+
+        assertEquals(new TaskReassignResponseDto(3), actualResult);
+
+        final ArgumentCaptor<UUID[]> captorChunks = ArgumentCaptor.forClass(UUID[].class);
+        verify(repository, times(2)).reassignByUuids(captorChunks.capture(), isNull(), eq(toAssignee));
+        assertEquals(2, captorChunks.getAllValues().getFirst().length);
+        assertEquals(1, captorChunks.getAllValues().getLast().length);
+        verify(assigneeValidator, times(1)).validate(toAssignee);
+        verify(repository, never()).reassignChunk(any(), any(), anyInt());
+    }
+
+    @Test
+    void reassignTasks_whenTooManyUuids_shouldThrowBatchTooLargeException() {
+        final Set<UUID> taskUuids = Set.of(
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174001"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174002"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174003"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174004"));
+
+        assertThrows(BatchTooLargeException.class, () -> service.reassignTasks(new TaskReassignRequestDto(null, createDefaultUuid(), taskUuids)));
+
+        verify(assigneeValidator, never()).validate(any());
+        verify(repository, never()).reassignByUuids(any(), any(), any());
+    }
+
+    @Test
+    void reassignTasks_whenTargetIsNotValid_shouldNotUpdateTasks() {
+        final UUID toAssignee = UUID.fromString("123e4567-e89b-12d3-a456-426614174009");
+
+        doThrow(new UserValidationException(toAssignee)).when(assigneeValidator).validate(any());
+
+        assertThrows(UserValidationException.class, () -> service.reassignTasks(new TaskReassignRequestDto(createDefaultUuid(), toAssignee, null)));
 
-        verify(repository, times(1)).delete(existingTask);
+        verify(repository, never()).reassignChunk(any(), any(), anyInt());
+    }
+
+    @Test
+    void deleteTaskByUuid_whenTaskExists_shouldDeleteWithSingleStatement() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(repository.deleteByUuid(any(UUID.class), isNull())).thenReturn(1);
+
+        service.deleteTaskByUuid(initialUuid, null);
+
+        verify(repository, times(1)).deleteByUuid(initialUuid, null);
+        verify(repository, never()).findById(any());
     }
 
     @Test
     void deleteTaskByUuid_whenTaskDoesNotExist_shouldThrowTaskNotFoundException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.deleteByUuid(any(UUID.class), isNull())).thenReturn(0);
 
-        assertThrows(TaskNotFoundException.class, () -> service.deleteTaskByUuid(initialUuid));
+        assertThrows(TaskNotFoundException.class, () -> service.deleteTaskByUuid(initialUuid, null));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).deleteByUuid(initialUuid, null);
+    }
+
+    @Test
+    void deleteTaskByUuid_whenVersionIsStale_shouldThrowTaskVersionMismatchException() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(repository.deleteByUuid(any(UUID.class), anyLong())).thenReturn(0);
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.of(5L));
+
+        assertThrows(TaskVersionMismatchException.class, () -> service.deleteTaskByUuid(initialUuid, 3L));
+
+        verify(repository, times(1)).deleteByUuid(initialUuid, 3L);
     }
 
     private UUID createDefaultUuid() {
@@ -0,0 +1,155 @@
+package io.github.dfnabiullin.taskmanager.task.service;
+
+import io.github.dfnabiullin.taskmanager.task.client.UserChangeDto;
+import io.github.dfnabiullin.taskmanager.task.client.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.task.client.UserChangeType;
+import io.github.dfnabiullin.taskmanager.task.client.UserClient;
+import io.github.dfnabiullin.taskmanager.task.config.CacheConfig;
+import io.github.dfnabiullin.taskmanager.task.config.UserDirectoryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+    @Mock
+    private UserClient userClient;
+    private CacheManager cacheManager;
+    private UserDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.ASSIGNEES_CACHE);
+        directory = new UserDirectory(userClient, new UserDirectoryProperties(true, Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1), 2), cacheManager);
+    }
+
+    @Test
+    void isFresh_beforeFirstSync_shouldReturnFalse() {
+        assertFalse(directory.isFresh());
+        assertFalse(directory.isUsableDuringOutage());
+    }
+
+    @Test
+    void sync_whenFirstRun_shouldReplayWholeFeed() {
+        final UUID deletedUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final UUID createdUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(userClient.findChanges(null, 2)).thenReturn(new UserChangePageResponseDto(List.of(
+                new UserChangeDto(deletedUuid, UserChangeType.CREATED),
+                new UserChangeDto(createdUuid, UserChangeType.CREATED)), "cursor-2"));
+        when(userClient.findChanges("cursor-2", 2)).thenReturn(new UserChangePageResponseDto(List.of(
+                new UserChangeDto(deletedUuid, UserChangeType.DELETED)), "cursor-3"));
+
+        directory.sync();
+
+        assertTrue(directory.isFresh());
+        assertTrue(directory.contains(createdUuid));
+        assertFalse(directory.contains(deletedUuid));
+    }
+
+    @Test
+    void sync_whenAlreadySynced_shouldCatchUpFromLastSeqAndEvictAssignees() {
+        final UUID createdUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+        when(userClient.findChanges(null, 2)).thenReturn(new UserChangePageResponseDto(List.of(), "cursor-5"));
+        when(userClient.findChanges("cursor-5", 2)).thenReturn(new UserChangePageResponseDto(List.of(
+                new UserChangeDto(createdUuid, UserChangeType.CREATED)), "cursor-6"));
+
+        directory.sync();
+        cacheManager.getCache(CacheConfig.ASSIGNEES_CACHE).put(createdUuid, false);
+        directory.sync();
+
+        assertTrue(directory.contains(createdUuid));
+        assertNull(cacheManager.getCache(CacheConfig.ASSIGNEES_CACHE).get(createdUuid));
+        verify(userClient, times(1)).findChanges(null, 2);
+        verify(userClient, times(1)).findChanges("cursor-5", 2);
+    }
+
+    @Test
+    void sync_whenFullResyncIsDue_shouldEvictAssigneesThatChangedSinceLastSnapshot() {
+        final UUID keptUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final UUID removedUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final UUID addedUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+        final Cache assigneeCache = cacheManager.getCache(CacheConfig.ASSIGNEES_CACHE);
+        directory = new UserDirectory(userClient, new UserDirectoryProperties(true, Duration.ofHours(1), Duration.ofHours(1), Duration.ZERO, 2), cacheManager);
+
+        when(userClient.findChanges(null, 2))
+                .thenReturn(new UserChangePageResponseDto(List.of(
+                        new UserChangeDto(keptUuid, UserChangeType.CREATED),
+                        new UserChangeDto(removedUuid, UserChangeType.CREATED)), "cursor-2"))
+                .thenReturn(new UserChangePageResponseDto(List.of(
+                        new UserChangeDto(keptUuid, UserChangeType.CREATED),
+                        new UserChangeDto(addedUuid, UserChangeType.CREATED)), "cursor-4"));
+        when(userClient.findChanges("cursor-2", 2)).thenReturn(new UserChangePageResponseDto(List.of(), "cursor-2"));
+        when(userClient.findChanges("cursor-4", 2)).thenReturn(new UserChangePageResponseDto(List.of(
+                new UserChangeDto(removedUuid, UserChangeType.DELETED)), "cursor-5"));
+
+        directory.sync();
+        assigneeCache.put(keptUuid, true);
+        assigneeCache.put(removedUuid, true);
+        assigneeCache.put(addedUuid, false);
+        directory.sync();
+
+        assertTrue(directory.contains(keptUuid));
+        assertTrue(directory.contains(addedUuid));
+        assertFalse(directory.contains(removedUuid));
+        assertNotNull(assigneeCache.get(keptUuid));
+        assertNull(assigneeCache.get(removedUuid));
+        assertNull(assigneeCache.get(addedUuid));
+    }
+
+    @Test
+    void sync_whenUserClientFails_shouldStayStale() {
+        when(userClient.findChanges(any(), anyInt())).thenThrow(new IllegalStateException("user-service is down"));
+
+        assertDoesNotThrow(() -> directory.sync());
+
+        assertFalse(directory.isFresh());
+    }
+
+    @Test
+    void isUsableDuringOutage_whenStaleButWithinOutageStaleness_shouldReturnTrue() {
+        directory = new UserDirectory(userClient, new UserDirectoryProperties(true, Duration.ZERO, Duration.ofHours(1), Duration.ofHours(1), 2), cacheManager);
+
+        when(userClient.findChanges(null, 2)).thenReturn(new UserChangePageResponseDto(List.of(), "cursor-0"));
+
+        directory.sync();
+
+        assertFalse(directory.isFresh());
+        assertTrue(directory.isUsableDuringOutage());
+    }
+
+    @Test
+    void isUsableDuringOutage_whenOutageStalenessIsExceeded_shouldReturnFalse() {
+        directory = new UserDirectory(userClient, new UserDirectoryProperties(true, Duration.ZERO, Duration.ZERO, Duration.ofHours(1), 2), cacheManager);
+
+        when(userClient.findChanges(null, 2)).thenReturn(new UserChangePageResponseDto(List.of(), "cursor-0"));
+
+        directory.sync();
+
+        assertFalse(directory.isUsableDuringOutage());
+    }
+
+    @Test
+    void sync_whenDisabled_shouldNotCallUserClient() {
+        directory = new UserDirectory(userClient, new UserDirectoryProperties(false, Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1), 2), cacheManager);
+
+        directory.sync();
+
+        assertFalse(directory.isFresh());
+        verify(userClient, never()).findChanges(any(), anyInt());
+    }
+}
\ No newline at end of file
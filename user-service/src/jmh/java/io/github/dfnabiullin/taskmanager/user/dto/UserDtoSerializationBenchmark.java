@@ -0,0 +1,70 @@
+package io.github.dfnabiullin.taskmanager.user.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDtoSerializationBenchmark {
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ObjectWriter userWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader requestReader;
+    private ObjectReader existsRequestReader;
+    private UserResponseDto userResponseDto;
+    private List<UserResponseDto> userResponseDtos;
+    private byte[] userRequestJson;
+    private byte[] existsRequestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        userWriter = objectMapper.writerFor(UserResponseDto.class);
+        listWriter = objectMapper.writerFor(new TypeReference<List<UserResponseDto>>() {
+        });
+        requestReader = objectMapper.readerFor(UserRequestDto.class);
+        existsRequestReader = objectMapper.readerFor(UserExistsRequestDto.class);
+        userResponseDto = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        userResponseDtos = IntStream.range(0, size)
+                .mapToObj(i -> new UserResponseDto("John Doe", "john.doe" + i + "@example.com", new UUID(0L, i)))
+                .toList();
+        userRequestJson = objectMapper.writeValueAsBytes(new UserRequestDto("John Doe", "john.doe@example.com"));
+        Set<UUID> uuids = IntStream.range(0, size).mapToObj(i -> new UUID(0L, i)).collect(Collectors.toSet());
+        existsRequestJson = objectMapper.writeValueAsBytes(new UserExistsRequestDto(uuids));
+    }
+
+    @Benchmark
+    public byte[] writeUser() throws IOException {
+        return userWriter.writeValueAsBytes(userResponseDto);
+    }
+
+    @Benchmark
+    public byte[] writeUserList() throws IOException {
+        return listWriter.writeValueAsBytes(userResponseDtos);
+    }
+
+    @Benchmark
+    public UserRequestDto readUserRequest() throws IOException {
+        return requestReader.readValue(userRequestJson);
+    }
+
+    @Benchmark
+    public UserExistsRequestDto readExistsRequest() throws IOException {
+        return existsRequestReader.readValue(existsRequestJson);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package io.github.dfnabiullin.taskmanager.user.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.ProblemDetail;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserExceptionHandlerBenchmark {
+    @Param({"en", "ru"})
+    private String language;
+
+    private UserExceptionHandler handler;
+    private Locale locale;
+    private UserNotFoundException userNotFoundException;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        handler = new UserExceptionHandler(messageSource);
+        locale = Locale.of(language);
+        userNotFoundException = new UserNotFoundException(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+    }
+
+    @Benchmark
+    public ProblemDetail handleUserNotFoundException() {
+        return handler.handleUserNotFoundException(userNotFoundException, locale);
+    }
+
+    @Benchmark
+    public ProblemDetail handleException() {
+        return handler.handleException(locale);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package io.github.dfnabiullin.taskmanager.user.mapper;
+
+import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
+import io.github.dfnabiullin.taskmanager.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+    private final UserMapper mapper = new UserMapperImpl();
+    private User user;
+    private UserRequestDto userRequestDto;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setName("John Doe");
+        user.setEmail("john.doe@example.com");
+        user.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        userRequestDto = new UserRequestDto("John Doe", "john.doe@example.com");
+    }
+
+    @Benchmark
+    public UserResponseDto toResponseDto() {
+        return mapper.toResponseDto(user);
+    }
+
+    @Benchmark
+    public User fromRequestDto() {
+        return mapper.fromRequestDto(userRequestDto);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package io.github.dfnabiullin.taskmanager.user.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "application.config.second-level-cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+    public record Region(long maximumSize, Duration ttl) {
+    }
+}
\ No newline at end of file
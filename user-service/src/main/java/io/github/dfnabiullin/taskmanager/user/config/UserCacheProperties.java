@@ -0,0 +1,9 @@
+package io.github.dfnabiullin.taskmanager.user.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.config.user-cache")
+public record UserCacheProperties(long maximumSize, Duration ttl, boolean listSnapshotEnabled) {
+}
\ No newline at end of file
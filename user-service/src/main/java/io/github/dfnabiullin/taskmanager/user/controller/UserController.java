@@ -1,18 +1,28 @@
 package io.github.dfnabiullin.taskmanager.user.controller;
 
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsResponseDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserPatchRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
+import io.github.dfnabiullin.taskmanager.user.service.UserResponseCache;
 import io.github.dfnabiullin.taskmanager.user.service.UserService;
+import io.github.dfnabiullin.taskmanager.user.service.Versioned;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,48 +31,76 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService service;
+    private final UserResponseCache responseCache;
 
     @Operation(summary = "Creating a new user")
     @ApiResponse(responseCode = "201", description = "The user was successfully created")
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public UserResponseDto createUser(@RequestBody @Valid UserRequestDto userRequestDto) {
-        return service.createUser(userRequestDto);
+    public ResponseEntity<UserResponseDto> createUser(@RequestBody @Valid UserRequestDto userRequestDto) {
+        return withETag(HttpStatus.CREATED, service.createUser(userRequestDto));
     }
 
     @Operation(summary = "Getting a user by UUID")
-    @ApiResponse(responseCode = "200", description = "The user was found")
-    @GetMapping("/{uuid}")
-    public UserResponseDto getUserByUuid(@PathVariable UUID uuid) {
-        return service.getUserByUuid(uuid);
+    @ApiResponse(responseCode = "200", description = "The user was found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = UserResponseDto.class)))
+    @ApiResponse(responseCode = "304", description = "The user has not changed since the version in If-None-Match")
+    @GetMapping(value = "/{uuid}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getUserByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Versioned<byte[]> user = responseCache.getUser(uuid, service::getUserByUuid);
+        if (ifNoneMatch != null && ETags.matchesAny(ifNoneMatch, user.version())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.format(user.version())).build();
+        }
+        return ResponseEntity.ok().eTag(ETags.format(user.version())).contentType(MediaType.APPLICATION_JSON).body(user.body());
     }
 
     @Operation(summary = "Getting a list of all users")
-    @ApiResponse(responseCode = "200", description = "The user was found")
-    @GetMapping
-    public List<UserResponseDto> getAllUsers() {
-        return service.getAllUsers();
+    @ApiResponse(responseCode = "200", description = "The user was found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = UserResponseDto.class))))
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllUsers() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(responseCache.getAllUsers(service::getAllUsers));
+    }
+
+    @Operation(summary = "Checking which users exist")
+    @ApiResponse(responseCode = "200", description = "The existing users were found")
+    @PostMapping("/exists")
+    public UserExistsResponseDto findExistingUsers(@RequestBody @Valid UserExistsRequestDto userExistsRequestDto) {
+        return service.findExistingUsers(userExistsRequestDto);
+    }
+
+    @Operation(summary = "Reading the feed of created and deleted users")
+    @ApiResponse(responseCode = "200", description = "The changes after the given position were found")
+    @GetMapping("/changes")
+    public UserChangePageResponseDto findChanges(@RequestParam(required = false) String after, @RequestParam(defaultValue = "1000") int limit) {
+        return service.findChanges(after, limit);
     }
 
     @Operation(summary = "Full user update")
     @ApiResponse(responseCode = "200", description = "The user has been successfully updated")
+    @ApiResponse(responseCode = "412", description = "The user has changed since the version in If-Match")
     @PutMapping("/{uuid}")
-    public UserResponseDto putUserByUuid(@PathVariable UUID uuid, @RequestBody @Valid UserRequestDto userRequestDto) {
-        return service.putUserByUuid(uuid, userRequestDto);
+    public ResponseEntity<UserResponseDto> putUserByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody @Valid UserRequestDto userRequestDto) {
+        return withETag(HttpStatus.OK, service.putUserByUuid(uuid, ETags.expectedVersion(ifMatch), userRequestDto));
     }
 
     @Operation(summary = "Partial user update")
     @ApiResponse(responseCode = "200", description = "The user has been partially updated successfully")
+    @ApiResponse(responseCode = "412", description = "The user has changed since the version in If-Match")
     @PatchMapping("/{uuid}")
-    public UserResponseDto patchUserByUuid(@PathVariable UUID uuid, @RequestBody @Valid UserPatchRequestDto userPatchRequestDto) {
-        return service.patchUserByUuid(uuid, userPatchRequestDto);
+    public ResponseEntity<UserResponseDto> patchUserByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody @Valid UserPatchRequestDto userPatchRequestDto) {
+        return withETag(HttpStatus.OK, service.patchUserByUuid(uuid, ETags.expectedVersion(ifMatch), userPatchRequestDto));
     }
 
     @Operation(summary = "Deleting a user")
     @ApiResponse(responseCode = "204", description = "The user has been deleted")
+    @ApiResponse(responseCode = "412", description = "The user has changed since the version in If-Match")
     @DeleteMapping("/{uuid}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteUserByUuid(@PathVariable UUID uuid) {
-        service.deleteUserByUuid(uuid);
+    public void deleteUserByUuid(@PathVariable UUID uuid, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.deleteUserByUuid(uuid, ETags.expectedVersion(ifMatch));
+    }
+
+    private ResponseEntity<UserResponseDto> withETag(HttpStatus status, Versioned<UserResponseDto> user) {
+        return ResponseEntity.status(status).eTag(ETags.format(user.version())).body(user.body());
     }
 }
\ No newline at end of file
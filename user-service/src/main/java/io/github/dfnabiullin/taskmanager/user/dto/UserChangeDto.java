@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.user.dto;
+
+import io.github.dfnabiullin.taskmanager.user.model.UserChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record UserChangeDto(@Schema(description = "User's UUID", example = "123e4567-e89b-12d3-a456-426614174000") UUID uuid,
+                            @Schema(description = "Kind of change", example = "CREATED") UserChangeType type) {
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package io.github.dfnabiullin.taskmanager.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record UserExistsRequestDto(
+        @Schema(description = "UUIDs of the users to check", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]") @NotNull @Size(max = 1000) Set<UUID> uuids) {
+}
\ No newline at end of file
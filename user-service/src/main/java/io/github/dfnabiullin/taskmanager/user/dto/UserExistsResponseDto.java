@@ -0,0 +1,10 @@
+package io.github.dfnabiullin.taskmanager.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record UserExistsResponseDto(
+        @Schema(description = "UUIDs of the requested users that exist", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]") Set<UUID> existing) {
+}
\ No newline at end of file
@@ -27,6 +27,22 @@ class UserExceptionHandler extends ResponseEntityExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(UserVersionMismatchException.class)
+    public ProblemDetail handleUserVersionMismatchException(UserVersionMismatchException ex, Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        problemDetail.setTitle("User Version Mismatch");
+        problemDetail.setDetail(messageSource.getMessage("error.user.versionMismatch", new Object[]{ex.getUuid()}, locale));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex, Locale locale) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Invalid Cursor");
+        problemDetail.setDetail(messageSource.getMessage("error.cursor.notValid", new Object[]{ex.getCursor()}, locale));
+        return problemDetail;
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, @NonNull HttpHeaders headers, @NonNull HttpStatusCode status, @NonNull WebRequest request) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -0,0 +1,14 @@
+package io.github.dfnabiullin.taskmanager.user.exception;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class UserVersionMismatchException extends RuntimeException {
+    private final UUID uuid;
+
+    public UserVersionMismatchException(UUID uuid) {
+        this.uuid = uuid;
+    }
+}
\ No newline at end of file
@@ -1,13 +1,9 @@
 package io.github.dfnabiullin.taskmanager.user.mapper;
 
-import io.github.dfnabiullin.taskmanager.user.dto.UserPatchRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
 import io.github.dfnabiullin.taskmanager.user.model.User;
-import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
-import org.mapstruct.MappingTarget;
-import org.mapstruct.NullValuePropertyMappingStrategy;
 
 @Mapper(componentModel = "spring")
 public interface UserMapper {
@@ -15,11 +11,4 @@ public interface UserMapper {
 
     @ToEntityMapping
     User fromRequestDto(UserRequestDto userRequestDto);
-
-    @ToEntityMapping
-    User updateUserFromDto(UserRequestDto dto, @MappingTarget User user);
-
-    @ToEntityMapping
-    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    User patchUserFromDto(UserPatchRequestDto dto, @MappingTarget User user);
 }
\ No newline at end of file
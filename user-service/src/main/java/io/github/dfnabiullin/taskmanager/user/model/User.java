@@ -2,6 +2,8 @@ package io.github.dfnabiullin.taskmanager.user.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -12,21 +14,26 @@ import java.util.UUID;
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
+    public static final String CACHE_REGION = "users";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, updatable = false)
+    private UUID uuid;
     private String name;
     @Column(unique = true, nullable = false)
     private String email;
-    @EqualsAndHashCode.Include
-    @Column(unique = true, nullable = false, updatable = false)
-    private UUID uuid;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     @PrePersist
     public void onBeforeCreate() {
         if (uuid == null) {
-            uuid = UUID.randomUUID();
+            uuid = UuidV7.next();
         }
     }
 }
\ No newline at end of file
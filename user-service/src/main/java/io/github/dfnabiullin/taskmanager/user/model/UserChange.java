@@ -0,0 +1,29 @@
+package io.github.dfnabiullin.taskmanager.user.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+@Entity
+@Immutable
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_changes")
+public class UserChange {
+    @Id
+    private UUID userUuid;
+    @Column(nullable = false)
+    private long xid;
+    @Column(nullable = false)
+    private long seq;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserChangeType changeType;
+}
\ No newline at end of file
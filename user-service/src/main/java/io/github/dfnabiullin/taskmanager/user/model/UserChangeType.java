@@ -0,0 +1,6 @@
+package io.github.dfnabiullin.taskmanager.user.model;
+
+public enum UserChangeType {
+    CREATED,
+    DELETED
+}
\ No newline at end of file
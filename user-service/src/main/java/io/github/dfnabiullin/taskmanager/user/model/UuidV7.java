@@ -0,0 +1,35 @@
+package io.github.dfnabiullin.taskmanager.user.model;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+    private static final UuidV7 INSTANCE = new UuidV7(Clock.systemUTC());
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    UuidV7(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static UUID next() {
+        return INSTANCE.generate();
+    }
+
+    UUID generate() {
+        long now = clock.millis() << COUNTER_BITS;
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(now, last + 1));
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION
+                | timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.github.dfnabiullin.taskmanager.user.repository;
+
+import java.util.UUID;
+
+public interface UserCacheRepository {
+    void evictCached(UUID uuid);
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.dfnabiullin.taskmanager.user.repository;
+
+import io.github.dfnabiullin.taskmanager.user.model.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+class UserCacheRepositoryImpl implements UserCacheRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void evictCached(UUID uuid) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(User.class, uuid);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(User.class, uuid);
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
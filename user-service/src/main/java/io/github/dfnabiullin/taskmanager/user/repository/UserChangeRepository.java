@@ -0,0 +1,19 @@
+package io.github.dfnabiullin.taskmanager.user.repository;
+
+import io.github.dfnabiullin.taskmanager.user.model.UserChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface UserChangeRepository extends JpaRepository<UserChange, UUID> {
+    @Query(value = """
+            SELECT *
+            FROM user_changes
+            WHERE (xid, seq) > (:xid, :seq)
+              AND xid < CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)
+            ORDER BY xid, seq
+            LIMIT :limit""", nativeQuery = true)
+    List<UserChange> findChangesAfter(long xid, long seq, int limit);
+}
\ No newline at end of file
@@ -1,11 +1,51 @@
 package io.github.dfnabiullin.taskmanager.user.repository;
 
+import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
 import io.github.dfnabiullin.taskmanager.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUuid(UUID uuid);
+public interface UserRepository extends JpaRepository<User, UUID>, UserCacheRepository {
+    @Query("select new io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto(u.name, u.email, u.uuid) from User u")
+    List<UserResponseDto> findAllResponses();
+
+    @Query("select u.version from User u where u.uuid = :uuid")
+    Optional<Long> findVersionByUuid(UUID uuid);
+
+    @Query(value = "SELECT uuid FROM users WHERE uuid = ANY(:uuids)", nativeQuery = true)
+    Set<UUID> findExistingUuids(UUID[] uuids);
+
+    @Transactional
+    @Query(value = """
+            UPDATE users
+            SET name    = CAST(:name AS VARCHAR),
+                email   = CAST(:email AS VARCHAR),
+                version = version + 1
+            WHERE uuid = :uuid
+              AND (CAST(:version AS BIGINT) IS NULL OR version = CAST(:version AS BIGINT))
+            RETURNING *""", nativeQuery = true)
+    Optional<User> updateByUuid(UUID uuid, Long version, String name, String email);
+
+    @Transactional
+    @Query(value = """
+            UPDATE users
+            SET name    = COALESCE(CAST(:name AS VARCHAR), name),
+                email   = COALESCE(CAST(:email AS VARCHAR), email),
+                version = version + 1
+            WHERE uuid = :uuid
+              AND (CAST(:version AS BIGINT) IS NULL OR version = CAST(:version AS BIGINT))
+            RETURNING *""", nativeQuery = true)
+    Optional<User> patchByUuid(UUID uuid, Long version, String name, String email);
+
+    @Transactional
+    @Modifying
+    @Query("delete from User u where u.uuid = :uuid and (:version is null or u.version = :version)")
+    int deleteByUuid(UUID uuid, Long version);
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package io.github.dfnabiullin.taskmanager.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.dfnabiullin.taskmanager.user.config.UserCacheProperties;
+import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class UserResponseCache {
+    private final Cache<UUID, Versioned<byte[]>> users;
+    private final Cache<Long, byte[]> userLists;
+    private final ObjectWriter userWriter;
+    private final ObjectWriter userListWriter;
+    private final boolean listSnapshotEnabled;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserResponseCache(UserCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.users = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build(), "users");
+        this.userLists = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats()
+                .build(), "user-lists");
+        this.userWriter = objectMapper.writerFor(UserResponseDto.class);
+        this.userListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, UserResponseDto.class));
+        this.listSnapshotEnabled = properties.listSnapshotEnabled();
+    }
+
+    public Versioned<byte[]> getUser(UUID uuid, Function<UUID, Versioned<UserResponseDto>> loader) {
+        long loadGeneration = generation.get();
+        boolean[] loaded = new boolean[1];
+        Versioned<byte[]> user = users.get(uuid, key -> {
+            loaded[0] = true;
+            Versioned<UserResponseDto> found = loader.apply(key);
+            return new Versioned<>(encode(userWriter, found.body()), found.version());
+        });
+        if (loaded[0] && generation.get() != loadGeneration) {
+            users.invalidate(uuid);
+        }
+        return user;
+    }
+
+    public byte[] getAllUsers(Supplier<List<UserResponseDto>> loader) {
+        if (!listSnapshotEnabled) {
+            return encode(userListWriter, loader.get());
+        }
+        return userLists.get(generation.get(), key -> encode(userListWriter, loader.get()));
+    }
+
+    public void invalidateUser(UUID uuid) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            userLists.invalidateAll();
+            users.invalidate(uuid);
+        });
+    }
+
+    public void invalidateUserList() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            userLists.invalidateAll();
+        });
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private static byte[] encode(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
\ No newline at end of file
@@ -1,57 +1,110 @@
 package io.github.dfnabiullin.taskmanager.user.service;
 
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangeDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsResponseDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserPatchRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
 import io.github.dfnabiullin.taskmanager.user.exception.UserNotFoundException;
+import io.github.dfnabiullin.taskmanager.user.exception.UserVersionMismatchException;
 import io.github.dfnabiullin.taskmanager.user.mapper.UserMapper;
 import io.github.dfnabiullin.taskmanager.user.model.User;
+import io.github.dfnabiullin.taskmanager.user.model.UserChange;
+import io.github.dfnabiullin.taskmanager.user.model.UuidV7;
+import io.github.dfnabiullin.taskmanager.user.repository.UserChangeRepository;
 import io.github.dfnabiullin.taskmanager.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int MAX_CHANGES_PAGE_SIZE = 10000;
+
     private final UserRepository repository;
+    private final UserChangeRepository changeRepository;
     private final UserMapper mapper;
+    private final UserResponseCache responseCache;
 
     @Transactional
-    public UserResponseDto createUser(UserRequestDto userRequestDto) {
+    public Versioned<UserResponseDto> createUser(UserRequestDto userRequestDto) {
         User user = mapper.fromRequestDto(userRequestDto);
-        user.setUuid(UUID.randomUUID());
-        return mapper.toResponseDto(repository.save(user));
+        user.setUuid(UuidV7.next());
+        Versioned<UserResponseDto> created = versioned(repository.save(user));
+        responseCache.invalidateUserList();
+        return created;
     }
 
     @Transactional(readOnly = true)
-    public UserResponseDto getUserByUuid(UUID uuid) {
-        return mapper.toResponseDto(repository.findByUuid(uuid).orElseThrow(() -> new UserNotFoundException(uuid)));
+    public Versioned<UserResponseDto> getUserByUuid(UUID uuid) {
+        return versioned(repository.findById(uuid).orElseThrow(() -> new UserNotFoundException(uuid)));
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers() {
-        return repository.findAll().stream().map(mapper::toResponseDto).toList();
+        return repository.findAllResponses();
+    }
+
+    @Transactional(readOnly = true)
+    public UserExistsResponseDto findExistingUsers(UserExistsRequestDto userExistsRequestDto) {
+        if (userExistsRequestDto.uuids().isEmpty()) {
+            return new UserExistsResponseDto(Set.of());
+        }
+        return new UserExistsResponseDto(repository.findExistingUuids(userExistsRequestDto.uuids()
+                .toArray(UUID[]::new)));
+    }
+
+    @Transactional(readOnly = true)
+    public UserChangePageResponseDto findChanges(String cursor, int limit) {
+        ChangeCursor after = ChangeCursor.decode(cursor);
+        List<UserChange> changes = changeRepository.findChangesAfter(after.xid(), after.seq(), Math.clamp(limit, 1, MAX_CHANGES_PAGE_SIZE));
+        ChangeCursor next = changes.isEmpty() ? after : new ChangeCursor(changes.getLast().getXid(), changes.getLast().getSeq());
+        return new UserChangePageResponseDto(changes.stream()
+                .map(change -> new UserChangeDto(change.getUserUuid(), change.getChangeType()))
+                .toList(), next.encode());
     }
 
     @Transactional
-    public UserResponseDto putUserByUuid(UUID uuid, UserRequestDto userRequestDto) {
-        User existingUser = repository.findByUuid(uuid).orElseThrow(() -> new UserNotFoundException(uuid));
-        return mapper.toResponseDto(repository.save(mapper.updateUserFromDto(userRequestDto, existingUser)));
+    public Versioned<UserResponseDto> putUserByUuid(UUID uuid, Long expectedVersion, UserRequestDto userRequestDto) {
+        User updated = repository.updateByUuid(uuid, expectedVersion, userRequestDto.name(), userRequestDto.email())
+                .orElseThrow(() -> writeFailed(uuid, expectedVersion));
+        repository.evictCached(uuid);
+        responseCache.invalidateUser(uuid);
+        return versioned(updated);
     }
 
     @Transactional
-    public UserResponseDto patchUserByUuid(UUID uuid, UserPatchRequestDto userPatchRequestDto) {
-        User existingUser = repository.findByUuid(uuid).orElseThrow(() -> new UserNotFoundException(uuid));
-        return mapper.toResponseDto(repository.save(mapper.patchUserFromDto(userPatchRequestDto, existingUser)));
+    public Versioned<UserResponseDto> patchUserByUuid(UUID uuid, Long expectedVersion, UserPatchRequestDto userPatchRequestDto) {
+        User patched = repository.patchByUuid(uuid, expectedVersion, userPatchRequestDto.name(), userPatchRequestDto.email())
+                .orElseThrow(() -> writeFailed(uuid, expectedVersion));
+        repository.evictCached(uuid);
+        responseCache.invalidateUser(uuid);
+        return versioned(patched);
     }
 
     @Transactional
-    public void deleteUserByUuid(UUID uuid) {
-        User existedUser = repository.findByUuid(uuid).orElseThrow(() -> new UserNotFoundException(uuid));
-        repository.delete(existedUser);
+    public void deleteUserByUuid(UUID uuid, Long expectedVersion) {
+        if (repository.deleteByUuid(uuid, expectedVersion) == 0) {
+            throw writeFailed(uuid, expectedVersion);
+        }
+        responseCache.invalidateUser(uuid);
+    }
+
+    private Versioned<UserResponseDto> versioned(User user) {
+        return new Versioned<>(mapper.toResponseDto(user), user.getVersion());
+    }
+
+    private RuntimeException writeFailed(UUID uuid, Long expectedVersion) {
+        if (expectedVersion != null && repository.findVersionByUuid(uuid).isPresent()) {
+            return new UserVersionMismatchException(uuid);
+        }
+        return new UserNotFoundException(uuid);
     }
 }
\ No newline at end of file
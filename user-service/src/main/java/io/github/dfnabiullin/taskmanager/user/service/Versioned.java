@@ -0,0 +1,4 @@
+package io.github.dfnabiullin.taskmanager.user.service;
+
+public record Versioned<T>(T body, long version) {
+}
\ No newline at end of file
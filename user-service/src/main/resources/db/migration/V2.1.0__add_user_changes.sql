@@ -0,0 +1,41 @@
+CREATE SEQUENCE user_change_seq;
+
+-- Holds the latest change of each user. Rows are ordered by the writing transaction id, which lets the reader skip
+-- transactions that are still running instead of serializing every user write behind a lock.
+CREATE TABLE user_changes
+(
+    user_uuid   UUID        NOT NULL,
+    xid         BIGINT      NOT NULL,
+    seq         BIGINT      NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    CONSTRAINT pk_user_changes PRIMARY KEY (user_uuid),
+    CONSTRAINT uc_user_changes_xid_seq UNIQUE (xid, seq)
+);
+
+INSERT INTO user_changes (user_uuid, xid, seq, change_type)
+SELECT uuid, 0, nextval('user_change_seq'), 'CREATED'
+FROM (SELECT uuid FROM users ORDER BY id) existing;
+
+CREATE FUNCTION record_user_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    current_xid BIGINT := CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO user_changes (user_uuid, xid, seq, change_type)
+        VALUES (NEW.uuid, current_xid, nextval('user_change_seq'), 'CREATED')
+        ON CONFLICT (user_uuid) DO UPDATE SET xid = EXCLUDED.xid, seq = EXCLUDED.seq, change_type = EXCLUDED.change_type;
+    ELSE
+        INSERT INTO user_changes (user_uuid, xid, seq, change_type)
+        VALUES (OLD.uuid, current_xid, nextval('user_change_seq'), 'DELETED')
+        ON CONFLICT (user_uuid) DO UPDATE SET xid = EXCLUDED.xid, seq = EXCLUDED.seq, change_type = EXCLUDED.change_type;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_changes
+    AFTER INSERT OR DELETE
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION record_user_change();
\ No newline at end of file
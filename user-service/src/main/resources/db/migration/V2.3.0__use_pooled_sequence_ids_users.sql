@@ -0,0 +1,10 @@
+ALTER TABLE users
+    ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE users_id_seq;
+
+CREATE SEQUENCE users_seq INCREMENT BY 50 OWNED BY users.id;
+
+-- Each value is the upper end of a block of 50 ids, so the first block has to start above the existing rows.
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false)
+FROM users;
\ No newline at end of file
@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS pk_users_uuid
+    ON users (uuid);
\ No newline at end of file
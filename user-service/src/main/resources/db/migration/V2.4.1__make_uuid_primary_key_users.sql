@@ -0,0 +1,9 @@
+SET LOCAL lock_timeout = '5s';
+
+-- The unique index was built concurrently by V2.4.0, so the swap below only needs a brief exclusive lock.
+ALTER TABLE users
+    DROP CONSTRAINT users_pkey,
+    DROP CONSTRAINT users_uuid_key,
+    ADD CONSTRAINT pk_users PRIMARY KEY USING INDEX pk_users_uuid,
+    ALTER COLUMN uuid DROP DEFAULT,
+    DROP COLUMN id;
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.dfnabiullin.taskmanager.user.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+    @Test
+    void format_shouldReturnStrongETag() {
+        assertEquals("\"42\"", ETags.format(42L));
+    }
+
+    @Test
+    void matchesAny_shouldCompareWeaklyAgainstEveryTag() {
+        assertTrue(ETags.matchesAny("\"1\", W/\"42\"", 42L));
+        assertTrue(ETags.matchesAny("*", 42L));
+        assertFalse(ETags.matchesAny("W/\"41\"", 42L));
+        assertFalse(ETags.matchesAny("W/\"abc\"", 42L));
+    }
+
+    @Test
+    void expectedVersion_shouldParseIfMatchHeaderWithStrongComparison() {
+        assertNull(ETags.expectedVersion(null));
+        assertNull(ETags.expectedVersion("*"));
+        assertEquals(42L, ETags.expectedVersion("\"42\""));
+        assertEquals(ETags.UNMATCHABLE_VERSION, ETags.expectedVersion("W/\"42\""));
+        assertEquals(ETags.UNMATCHABLE_VERSION, ETags.expectedVersion("W/\"42\", W/\"43\""));
+    }
+}
\ No newline at end of file
@@ -1,28 +1,45 @@
 package io.github.dfnabiullin.taskmanager.user.controller;
 
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangeDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsResponseDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserPatchRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
+import io.github.dfnabiullin.taskmanager.user.model.UserChangeType;
+import io.github.dfnabiullin.taskmanager.user.service.UserResponseCache;
 import io.github.dfnabiullin.taskmanager.user.service.UserService;
+import io.github.dfnabiullin.taskmanager.user.service.Versioned;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserControllerTest {
     @Mock
     private UserService service;
+    @Mock
+    private UserResponseCache responseCache;
     @InjectMocks
     private UserController controller;
 
@@ -34,11 +51,13 @@ class UserControllerTest {
 
         final var expectedUserResponseDto = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(service.createUser(any(UserRequestDto.class))).thenReturn(createdUser);
+        when(service.createUser(any(UserRequestDto.class))).thenReturn(new Versioned<>(createdUser, 0L));
 
-        final UserResponseDto actualUserResponseDto = controller.createUser(initialUserRequestDto);
+        final ResponseEntity<UserResponseDto> actualResponse = controller.createUser(initialUserRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals(HttpStatus.CREATED, actualResponse.getStatusCode());
+        assertEquals("\"0\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedUserResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UserRequestDto> captorInitialUserRequestDto = ArgumentCaptor.forClass(UserRequestDto.class);
         verify(service, times(1)).createUser(captorInitialUserRequestDto.capture());
@@ -47,43 +66,98 @@ class UserControllerTest {
     }
 
     @Test
-    void getUserByUuid_shouldReturnUser() {
+    void getUserByUuid_shouldReturnCachedJson() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        final var existingUser = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        final byte[] cachedUser = "{\"name\":\"John Doe\",\"email\":\"john.doe@example.com\",\"uuid\":\"123e4567-e89b-12d3-a456-426614174000\"}".getBytes(StandardCharsets.UTF_8);
 
-        final var expectedUserResponseDto = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        when(responseCache.getUser(any(UUID.class), any())).thenReturn(new Versioned<>(cachedUser, 2L));
 
-        when(service.getUserByUuid(any(UUID.class))).thenReturn(existingUser);
+        final ResponseEntity<byte[]> actualResponse = controller.getUserByUuid(initialUuid, null);
 
-        final UserResponseDto actualUserResponseDto = controller.getUserByUuid(initialUuid);
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, actualResponse.getHeaders().getContentType());
+        assertEquals("\"2\"", actualResponse.getHeaders().getETag());
+        assertArrayEquals(cachedUser, actualResponse.getBody());
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        verify(responseCache, times(1)).getUser(eq(initialUuid), any());
+        verify(service, never()).getUserByUuid(any());
+    }
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(service, times(1)).getUserByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+    @Test
+    void getUserByUuid_whenETagMatches_shouldReturnNotModified() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        when(responseCache.getUser(any(UUID.class), any())).thenReturn(new Versioned<>(new byte[]{'{', '}'}, 2L));
+
+        final ResponseEntity<byte[]> actualResponse = controller.getUserByUuid(initialUuid, "W/\"1\", W/\"2\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, actualResponse.getStatusCode());
+        assertEquals("\"2\"", actualResponse.getHeaders().getETag());
+        assertNull(actualResponse.getBody());
     }
 
     @Test
-    void getAllUsers_shouldReturnUserList() {
-        final var existingUser1 = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+    void getUserByUuid_whenETagIsStale_shouldReturnUser() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        final var existingUser2 = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        final byte[] cachedUser = new byte[]{'{', '}'};
 
-        final var expectedUserResponseDto1 = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        when(responseCache.getUser(any(UUID.class), any())).thenReturn(new Versioned<>(cachedUser, 3L));
 
-        final var expectedUserResponseDto2 = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+        final ResponseEntity<byte[]> actualResponse = controller.getUserByUuid(initialUuid, "W/\"2\"");
 
-        final List<UserResponseDto> expectedList = List.of(expectedUserResponseDto1, expectedUserResponseDto2);
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals("\"3\"", actualResponse.getHeaders().getETag());
+        assertArrayEquals(cachedUser, actualResponse.getBody());
+    }
 
-        when(service.getAllUsers()).thenReturn(List.of(existingUser1, existingUser2));
+    @Test
+    void getAllUsers_shouldReturnCachedJson() {
+        final byte[] cachedUsers = "[]".getBytes(StandardCharsets.UTF_8);
 
-        final List<UserResponseDto> actualList = controller.getAllUsers();
+        when(responseCache.getAllUsers(any())).thenReturn(cachedUsers);
 
-        assertIterableEquals(expectedList, actualList);
+        final ResponseEntity<byte[]> actualResponse = controller.getAllUsers();
 
-        verify(service, times(1)).getAllUsers();
+        assertEquals(HttpStatus.OK, actualResponse.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, actualResponse.getHeaders().getContentType());
+        assertArrayEquals(cachedUsers, actualResponse.getBody());
+
+        verify(responseCache, times(1)).getAllUsers(any());
+        verify(service, never()).getAllUsers();
+    }
+
+    @Test
+    void findExistingUsers_shouldReturnExistingUsers() {
+        final var initialUserExistsRequestDto = new UserExistsRequestDto(Set.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")));
+
+        final var existingUsers = new UserExistsResponseDto(Set.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")));
+
+        final var expectedUserExistsResponseDto = new UserExistsResponseDto(Set.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")));
+
+        when(service.findExistingUsers(any(UserExistsRequestDto.class))).thenReturn(existingUsers);
+
+        final UserExistsResponseDto actualUserExistsResponseDto = controller.findExistingUsers(initialUserExistsRequestDto);
+
+        assertEquals(expectedUserExistsResponseDto, actualUserExistsResponseDto);
+
+        verify(service, times(1)).findExistingUsers(initialUserExistsRequestDto);
+    }
+
+    @Test
+    void findChanges_shouldReturnChangePage() {
+        final var foundPage = new UserChangePageResponseDto(List.of(new UserChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), UserChangeType.CREATED)), "AAAAAAAAAAEAAAAAAAAAAQ");
+
+        final var expectedPage = new UserChangePageResponseDto(List.of(new UserChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), UserChangeType.CREATED)), "AAAAAAAAAAEAAAAAAAAAAQ");
+
+        when(service.findChanges(anyString(), anyInt())).thenReturn(foundPage);
+
+        final UserChangePageResponseDto actualPage = controller.findChanges("AAAAAAAAAAEAAAAAAAAAAA", 1000);
+
+        assertEquals(expectedPage, actualPage);
+
+        verify(service, times(1)).findChanges("AAAAAAAAAAEAAAAAAAAAAA", 1000);
     }
 
     @Test
@@ -95,15 +169,16 @@ class UserControllerTest {
 
         final var expectedUserResponseDto = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(service.putUserByUuid(any(UUID.class), any(UserRequestDto.class))).thenReturn(updatedUser);
+        when(service.putUserByUuid(any(UUID.class), any(), any(UserRequestDto.class))).thenReturn(new Versioned<>(updatedUser, 4L));
 
-        final UserResponseDto actualUserResponseDto = controller.putUserByUuid(initialUuid, initialUserRequestDto);
+        final ResponseEntity<UserResponseDto> actualResponse = controller.putUserByUuid(initialUuid, "\"3\"", initialUserRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals("\"4\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedUserResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
         final ArgumentCaptor<UserRequestDto> captorInitialUserRequestDto = ArgumentCaptor.forClass(UserRequestDto.class);
-        verify(service, times(1)).putUserByUuid(captorInitialUuid.capture(), captorInitialUserRequestDto.capture());
+        verify(service, times(1)).putUserByUuid(captorInitialUuid.capture(), eq(3L), captorInitialUserRequestDto.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
         assertEquals(initialUserRequestDto.name(), captorInitialUserRequestDto.getValue().name());
         assertEquals(initialUserRequestDto.email(), captorInitialUserRequestDto.getValue().email());
@@ -118,15 +193,16 @@ class UserControllerTest {
 
         final var expectedUserResponseDto = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(service.patchUserByUuid(any(UUID.class), any(UserPatchRequestDto.class))).thenReturn(patchedUser);
+        when(service.patchUserByUuid(any(UUID.class), any(), any(UserPatchRequestDto.class))).thenReturn(new Versioned<>(patchedUser, 1L));
 
-        final UserResponseDto actualUserResponseDto = controller.patchUserByUuid(initialUuid, initialUserPatchRequestDto);
+        final ResponseEntity<UserResponseDto> actualResponse = controller.patchUserByUuid(initialUuid, null, initialUserPatchRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals("\"1\"", actualResponse.getHeaders().getETag());
+        assertEquals(expectedUserResponseDto, actualResponse.getBody());
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
         final ArgumentCaptor<UserPatchRequestDto> captorInitialUserPatchRequestDto = ArgumentCaptor.forClass(UserPatchRequestDto.class);
-        verify(service, times(1)).patchUserByUuid(captorInitialUuid.capture(), captorInitialUserPatchRequestDto.capture());
+        verify(service, times(1)).patchUserByUuid(captorInitialUuid.capture(), isNull(), captorInitialUserPatchRequestDto.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
         assertEquals(initialUserPatchRequestDto.name(), captorInitialUserPatchRequestDto.getValue().name());
         assertEquals(initialUserPatchRequestDto.email(), captorInitialUserPatchRequestDto.getValue().email());
@@ -136,10 +212,19 @@ class UserControllerTest {
     void deleteUserByUuid_shouldCallDeleteOnService() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        controller.deleteUserByUuid(initialUuid);
+        controller.deleteUserByUuid(initialUuid, null);
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(service, times(1)).deleteUserByUuid(captorInitialUuid.capture());
+        verify(service, times(1)).deleteUserByUuid(captorInitialUuid.capture(), isNull());
         assertEquals(initialUuid, captorInitialUuid.getValue());
     }
+
+    @Test
+    void deleteUserByUuid_whenIfMatchIsMalformed_shouldPassUnmatchableVersion() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        controller.deleteUserByUuid(initialUuid, "not an etag");
+
+        verify(service, times(1)).deleteUserByUuid(initialUuid, ETags.UNMATCHABLE_VERSION);
+    }
 }
\ No newline at end of file
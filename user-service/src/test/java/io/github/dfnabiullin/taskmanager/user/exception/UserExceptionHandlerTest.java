@@ -42,6 +42,38 @@ class UserExceptionHandlerTest {
         assertEquals(expectedProblemDetail, actualProblemDetail);
     }
 
+    @Test
+    void handleUserVersionMismatchException_shouldReturnProblemDetailWithStatus412() {
+        final var initialUserVersionMismatchException = new UserVersionMismatchException(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.PRECONDITION_FAILED);
+        expectedProblemDetail.setTitle("User Version Mismatch");
+        expectedProblemDetail.setDetail("User with uuid 123e4567-e89b-12d3-a456-426614174000 has been modified, reload it and retry");
+
+        when(messageSource.getMessage("error.user.versionMismatch", new Object[]{initialUserVersionMismatchException.getUuid()}, locale)).thenReturn("User with uuid 123e4567-e89b-12d3-a456-426614174000 has been modified, reload it and retry");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleUserVersionMismatchException(initialUserVersionMismatchException, locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
+    @Test
+    void handleInvalidCursorException_shouldReturnProblemDetailWithStatus400() {
+        final var initialInvalidCursorException = new InvalidCursorException("not a cursor");
+        final Locale locale = Locale.ENGLISH;
+
+        final ProblemDetail expectedProblemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        expectedProblemDetail.setTitle("Invalid Cursor");
+        expectedProblemDetail.setDetail("Change cursor not a cursor is not valid");
+
+        when(messageSource.getMessage("error.cursor.notValid", new Object[]{initialInvalidCursorException.getCursor()}, locale)).thenReturn("Change cursor not a cursor is not valid");
+
+        final ProblemDetail actualProblemDetail = exceptionHandler.handleInvalidCursorException(initialInvalidCursorException, locale);
+
+        assertEquals(expectedProblemDetail, actualProblemDetail);
+    }
+
     @Test
     void handleMethodArgumentNotValid_whenSingleError_shouldReturnMessageWithoutSeparator() {
         final var initialBindingResult = new BeanPropertyBindingResult(new Object(), "object");
@@ -0,0 +1,38 @@
+package io.github.dfnabiullin.taskmanager.user.service;
+
+import io.github.dfnabiullin.taskmanager.user.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeCursorTest {
+
+    @Test
+    void decode_whenCursorIsEncoded_shouldReturnSameXidAndSeq() {
+        final var initialCursor = new ChangeCursor(1_000_000_007L, 42L);
+
+        final ChangeCursor actualCursor = ChangeCursor.decode(initialCursor.encode());
+
+        assertEquals(initialCursor, actualCursor);
+    }
+
+    @Test
+    void decode_whenCursorIsAbsent_shouldReturnStartOfFeed() {
+        assertEquals(new ChangeCursor(0L, 0L), ChangeCursor.decode(null));
+        assertEquals(new ChangeCursor(0L, 0L), ChangeCursor.decode(""));
+    }
+
+    @Test
+    void decode_whenCursorIsNotBase64_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> ChangeCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void decode_whenCursorHasWrongLength_shouldThrowInvalidCursorException() {
+        final String shortCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[12]);
+
+        assertThrows(InvalidCursorException.class, () -> ChangeCursor.decode(shortCursor));
+    }
+}
\ No newline at end of file
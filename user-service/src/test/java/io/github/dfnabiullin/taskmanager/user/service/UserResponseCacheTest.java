@@ -0,0 +1,124 @@
+package io.github.dfnabiullin.taskmanager.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.dfnabiullin.taskmanager.user.config.UserCacheProperties;
+import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
+import io.github.dfnabiullin.taskmanager.user.exception.UserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserResponseCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new UserResponseCache(new UserCacheProperties(100, Duration.ofMinutes(10), true), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void getUser_shouldEncodeOnceAndServeBytesFromCache() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final AtomicInteger loads = new AtomicInteger();
+
+        final Versioned<byte[]> firstUser = responseCache.getUser(initialUuid, uuid -> {
+            loads.incrementAndGet();
+            return new Versioned<>(new UserResponseDto("John Doe", "john.doe@example.com", uuid), 2L);
+        });
+        final Versioned<byte[]> secondUser = responseCache.getUser(initialUuid, uuid -> fail("should be served from cache"));
+
+        assertEquals(1, loads.get());
+        assertSame(firstUser, secondUser);
+        assertEquals(2L, secondUser.version());
+        assertEquals("{\"name\":\"John Doe\",\"email\":\"john.doe@example.com\",\"uuid\":\"123e4567-e89b-12d3-a456-426614174000\"}", new String(secondUser.body(), StandardCharsets.UTF_8));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getUser_whenInvalidated_shouldReload() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final AtomicInteger loads = new AtomicInteger();
+
+        responseCache.getUser(initialUuid, uuid -> new Versioned<>(new UserResponseDto("John Doe", "john.doe@example.com", uuid), loads.incrementAndGet()));
+        responseCache.invalidateUser(initialUuid);
+        final Versioned<byte[]> reloadedUser = responseCache.getUser(initialUuid, uuid -> new Versioned<>(new UserResponseDto("Jane Doe", "jane.doe@example.com", uuid), loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(2L, reloadedUser.version());
+    }
+
+    @Test
+    void getUser_whenWriteCommitsDuringLoad_shouldNotKeepLoadedBytes() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final AtomicInteger loads = new AtomicInteger();
+
+        responseCache.getUser(initialUuid, uuid -> {
+            loads.incrementAndGet();
+            responseCache.invalidateUserList();
+            return new Versioned<>(new UserResponseDto("John Doe", "john.doe@example.com", uuid), 1L);
+        });
+        responseCache.getUser(initialUuid, uuid -> new Versioned<>(new UserResponseDto("Jane Doe", "jane.doe@example.com", uuid), loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getUser_whenUserDoesNotExist_shouldPropagateExceptionAndCacheNothing() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        assertThrows(UserNotFoundException.class, () -> responseCache.getUser(initialUuid, uuid -> {
+            throw new UserNotFoundException(uuid);
+        }));
+
+        final Versioned<byte[]> createdUser = responseCache.getUser(initialUuid, uuid -> new Versioned<>(new UserResponseDto("John Doe", "john.doe@example.com", uuid), 0L));
+
+        assertEquals(0L, createdUser.version());
+    }
+
+    @Test
+    void getAllUsers_shouldServeSnapshotUntilNextGeneration() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        final byte[] firstSnapshot = responseCache.getAllUsers(() -> {
+            loads.incrementAndGet();
+            return List.of(new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000")));
+        });
+        final byte[] secondSnapshot = responseCache.getAllUsers(() -> fail("should be served from snapshot"));
+        responseCache.invalidateUserList();
+        final byte[] thirdSnapshot = responseCache.getAllUsers(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(2, loads.get());
+        assertSame(firstSnapshot, secondSnapshot);
+        assertEquals("[]", new String(thirdSnapshot, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getAllUsers_whenSnapshotDisabled_shouldLoadEveryTime() {
+        final AtomicInteger loads = new AtomicInteger();
+        responseCache = new UserResponseCache(new UserCacheProperties(100, Duration.ofMinutes(10), false), new ObjectMapper(), meterRegistry);
+
+        responseCache.getAllUsers(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        responseCache.getAllUsers(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(2, loads.get());
+    }
+}
\ No newline at end of file
@@ -1,11 +1,19 @@
 package io.github.dfnabiullin.taskmanager.user.service;
 
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangeDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserChangePageResponseDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsRequestDto;
+import io.github.dfnabiullin.taskmanager.user.dto.UserExistsResponseDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserPatchRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserRequestDto;
 import io.github.dfnabiullin.taskmanager.user.dto.UserResponseDto;
 import io.github.dfnabiullin.taskmanager.user.exception.UserNotFoundException;
+import io.github.dfnabiullin.taskmanager.user.exception.UserVersionMismatchException;
 import io.github.dfnabiullin.taskmanager.user.mapper.UserMapper;
 import io.github.dfnabiullin.taskmanager.user.model.User;
+import io.github.dfnabiullin.taskmanager.user.model.UserChange;
+import io.github.dfnabiullin.taskmanager.user.model.UserChangeType;
+import io.github.dfnabiullin.taskmanager.user.repository.UserChangeRepository;
 import io.github.dfnabiullin.taskmanager.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +24,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +37,11 @@ class UserServiceTest {
     @Mock
     private UserRepository repository;
     @Mock
+    private UserChangeRepository changeRepository;
+    @Mock
     private UserMapper mapper;
+    @Mock
+    private UserResponseCache responseCache;
     @InjectMocks
     private UserService service;
 
@@ -43,6 +57,7 @@ class UserServiceTest {
         savedUser.setName("John Doe");
         savedUser.setEmail("john.doe@example.com");
         savedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        savedUser.setVersion(0L);
 
         final var expectedUserResponseDto = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
@@ -50,9 +65,10 @@ class UserServiceTest {
         when(repository.save(any(User.class))).thenReturn(savedUser);
         when(mapper.toResponseDto(any(User.class))).thenReturn(expectedUserResponseDto);
 
-        final UserResponseDto actualUserResponseDto = service.createUser(initialUserRequestDto);
+        final Versioned<UserResponseDto> actualUser = service.createUser(initialUserRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals(new Versioned<>(expectedUserResponseDto, 0L), actualUser);
+        verify(responseCache, times(1)).invalidateUserList();
 
         final ArgumentCaptor<UserRequestDto> captorInitialUser = ArgumentCaptor.forClass(UserRequestDto.class);
         verify(mapper, times(1)).fromRequestDto(captorInitialUser.capture());
@@ -73,160 +89,176 @@ class UserServiceTest {
     }
 
     @Test
-    void getUserByUuid_whenUserExists_shouldReturnUser() {
+    void getUserByUuid_whenUserExists_shouldReturnUserLoadedByPrimaryKey() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
         final var existingUser = new User();
         existingUser.setName("John Doe");
         existingUser.setEmail("john.doe@example.com");
         existingUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        existingUser.setVersion(3L);
 
         final var expectedUserResponseDto = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingUser));
+        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(existingUser));
         when(mapper.toResponseDto(any(User.class))).thenReturn(expectedUserResponseDto);
 
-        final UserResponseDto actualUserResponseDto = service.getUserByUuid(initialUuid);
+        final Versioned<UserResponseDto> actualUser = service.getUserByUuid(initialUuid);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals(new Versioned<>(expectedUserResponseDto, 3L), actualUser);
 
         final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
+        verify(repository, times(1)).findById(captorInitialUuid.capture());
         assertEquals(initialUuid, captorInitialUuid.getValue());
 
-        final ArgumentCaptor<User> captorExistingUser = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(1)).toResponseDto(captorExistingUser.capture());
-        assertEquals(existingUser.getName(), captorExistingUser.getValue().getName());
-        assertEquals(existingUser.getEmail(), captorExistingUser.getValue().getEmail());
-        assertEquals(existingUser.getUuid(), captorExistingUser.getValue().getUuid());
+        verify(repository, never()).findVersionByUuid(any());
     }
 
     @Test
     void getUserByUuid_whenUserDoesNotExist_shouldThrowUserNotFoundException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.findById(any(UUID.class))).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> service.getUserByUuid(initialUuid));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).findById(initialUuid);
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
     void getAllUsers_whenUsersExist_shouldReturnUserList() {
-        final var existingUser1 = new User();
-        existingUser1.setName("John Doe");
-        existingUser1.setEmail("john.doe@example.com");
-        existingUser1.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
-
-        final var existingUser2 = new User();
-        existingUser2.setName("Jane Doe");
-        existingUser2.setEmail("jane.doe@example.com");
-        existingUser2.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
-
         final var expectedUserResponseDto1 = new UserResponseDto("John Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
         final var expectedUserResponseDto2 = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
 
         final List<UserResponseDto> expectedList = List.of(expectedUserResponseDto1, expectedUserResponseDto2);
 
-        when(repository.findAll()).thenReturn(List.of(existingUser1, existingUser2));
-        when(mapper.toResponseDto(any(User.class))).thenReturn(expectedUserResponseDto1, expectedUserResponseDto2);
+        when(repository.findAllResponses()).thenReturn(expectedList);
 
         final List<UserResponseDto> actualList = service.getAllUsers();
 
         assertIterableEquals(expectedList, actualList);
 
-        verify(repository, times(1)).findAll();
-
-        final ArgumentCaptor<User> captorExistingUser = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(2)).toResponseDto(captorExistingUser.capture());
-        final List<User> captorList = captorExistingUser.getAllValues();
-        assertEquals(existingUser1.getName(), captorList.getFirst().getName());
-        assertEquals(existingUser1.getEmail(), captorList.getFirst().getEmail());
-        assertEquals(existingUser1.getUuid(), captorList.getFirst().getUuid());
-        assertEquals(existingUser2.getName(), captorList.get(1).getName());
-        assertEquals(existingUser2.getEmail(), captorList.get(1).getEmail());
-        assertEquals(existingUser2.getUuid(), captorList.get(1).getUuid());
+        verify(repository, times(1)).findAllResponses();
+
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
     void getAllUsers_whenNoUsersExist_shouldReturnEmptyList() {
         final List<UserResponseDto> expectedList = List.of();
 
-        when(repository.findAll()).thenReturn(List.of());
+        when(repository.findAllResponses()).thenReturn(List.of());
 
         final List<UserResponseDto> actualList = service.getAllUsers();
 
         assertIterableEquals(expectedList, actualList);
 
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findAllResponses();
 
         verify(mapper, never()).toResponseDto(any());
     }
 
+    @Test
+    void findExistingUsers_shouldReturnExistingUuids() {
+        final UUID existingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final UUID missingUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+        final var initialUserExistsRequestDto = new UserExistsRequestDto(Set.of(existingUuid, missingUuid));
+
+        final var expectedUserExistsResponseDto = new UserExistsResponseDto(Set.of(existingUuid));
+
+        when(repository.findExistingUuids(any(UUID[].class))).thenReturn(Set.of(existingUuid));
+
+        final UserExistsResponseDto actualUserExistsResponseDto = service.findExistingUsers(initialUserExistsRequestDto);
+
+        assertEquals(expectedUserExistsResponseDto, actualUserExistsResponseDto);
+
+        final ArgumentCaptor<UUID[]> captorUuids = ArgumentCaptor.forClass(UUID[].class);
+        verify(repository, times(1)).findExistingUuids(captorUuids.capture());
+        assertEquals(Set.of(existingUuid, missingUuid), Set.of(captorUuids.getValue()));
+    }
+
+    @Test
+    void findExistingUsers_whenNoUuidsRequested_shouldNotQueryRepository() {
+        final var initialUserExistsRequestDto = new UserExistsRequestDto(Set.of());
+
+        final UserExistsResponseDto actualUserExistsResponseDto = service.findExistingUsers(initialUserExistsRequestDto);
+
+        assertEquals(new UserExistsResponseDto(Set.of()), actualUserExistsResponseDto);
+
+        verify(repository, never()).findExistingUuids(any());
+    }
+
+    @Test
+    void findChanges_whenChangesExist_shouldReturnCursorOfLastChangeAsNext() {
+        final var createdChange = new UserChange(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), 900L, 5L, UserChangeType.CREATED);
+
+        final var deletedChange = new UserChange(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), 901L, 7L, UserChangeType.DELETED);
+
+        final var expectedPage = new UserChangePageResponseDto(List.of(new UserChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), UserChangeType.CREATED), new UserChangeDto(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"), UserChangeType.DELETED)), new ChangeCursor(901L, 7L).encode());
+
+        when(changeRepository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of(createdChange, deletedChange));
+
+        final UserChangePageResponseDto actualPage = service.findChanges(new ChangeCursor(899L, 4L).encode(), 100);
+
+        assertEquals(expectedPage, actualPage);
+
+        verify(changeRepository, times(1)).findChangesAfter(899L, 4L, 100);
+    }
+
+    @Test
+    void findChanges_whenNoChangesExist_shouldKeepPosition() {
+        final String initialCursor = new ChangeCursor(899L, 42L).encode();
+
+        when(changeRepository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        final UserChangePageResponseDto actualPage = service.findChanges(initialCursor, 100_000);
+
+        assertEquals(new UserChangePageResponseDto(List.of(), initialCursor), actualPage);
+
+        verify(changeRepository, times(1)).findChangesAfter(899L, 42L, 10000);
+    }
+
+    @Test
+    void findChanges_whenCursorIsAbsent_shouldStartFromBeginning() {
+        when(changeRepository.findChangesAfter(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        service.findChanges(null, 100);
+
+        verify(changeRepository, times(1)).findChangesAfter(0L, 0L, 100);
+    }
+
     @Test
     void putUserByUuid_whenUserExists_shouldUpdateAndReturnUser() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         final var initialUserRequestDto = new UserRequestDto("Jane Doe", "jane.doe@example.com");
 
-        final var mappedUser = new User();
-        mappedUser.setName("Jane Doe");
-        mappedUser.setEmail("jane.doe@example.com");
-        mappedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
-
-        final var existingUser = new User();
-        existingUser.setName("John Doe");
-        existingUser.setEmail("john.doe@example.com");
-        existingUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
-
         final var updatedUser = new User();
         updatedUser.setName("Jane Doe");
         updatedUser.setEmail("jane.doe@example.com");
         updatedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
-
-        final var savedUser = new User();
-        savedUser.setName("Jane Doe");
-        savedUser.setEmail("jane.doe@example.com");
-        savedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        updatedUser.setVersion(4L);
 
         final var expectedUserResponseDto = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingUser));
-        when(mapper.updateUserFromDto(any(UserRequestDto.class), any(User.class))).thenReturn(mappedUser);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(String.class), any(String.class))).thenReturn(Optional.of(updatedUser));
         when(mapper.toResponseDto(any(User.class))).thenReturn(expectedUserResponseDto);
 
-        final UserResponseDto actualUserResponseDto = service.putUserByUuid(initialUuid, initialUserRequestDto);
+        final Versioned<UserResponseDto> actualUser = service.putUserByUuid(initialUuid, 3L, initialUserRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals(new Versioned<>(expectedUserResponseDto, 4L), actualUser);
+        verify(repository, times(1)).evictCached(initialUuid);
+        verify(responseCache, times(1)).invalidateUser(initialUuid);
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
-
-        final ArgumentCaptor<UserRequestDto> captorInitialUser = ArgumentCaptor.forClass(UserRequestDto.class);
-        final ArgumentCaptor<User> captorExistingUser1 = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(1)).updateUserFromDto(captorInitialUser.capture(), captorExistingUser1.capture());
-        assertEquals(initialUserRequestDto.name(), captorInitialUser.getValue().name());
-        assertEquals(initialUserRequestDto.email(), captorInitialUser.getValue().email());
-        assertEquals(existingUser.getName(), captorExistingUser1.getValue().getName());
-        assertEquals(existingUser.getEmail(), captorExistingUser1.getValue().getEmail());
-        assertEquals(existingUser.getUuid(), captorExistingUser1.getValue().getUuid());
+        verify(repository, times(1)).updateByUuid(initialUuid, 3L, "Jane Doe", "jane.doe@example.com");
+        verify(repository, never()).findById(any());
 
         final ArgumentCaptor<User> captorUpdatedUser = ArgumentCaptor.forClass(User.class);
-        verify(repository, times(1)).save(captorUpdatedUser.capture());
+        verify(mapper, times(1)).toResponseDto(captorUpdatedUser.capture());
         assertEquals(updatedUser.getName(), captorUpdatedUser.getValue().getName());
         assertEquals(updatedUser.getEmail(), captorUpdatedUser.getValue().getEmail());
         assertEquals(updatedUser.getUuid(), captorUpdatedUser.getValue().getUuid());
-
-        final ArgumentCaptor<User> captorSavedUser = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(1)).toResponseDto(captorSavedUser.capture());
-        assertEquals(savedUser.getName(), captorSavedUser.getValue().getName());
-        assertEquals(savedUser.getEmail(), captorSavedUser.getValue().getEmail());
-        assertEquals(savedUser.getUuid(), captorSavedUser.getValue().getUuid());
     }
 
     @Test
@@ -234,75 +266,72 @@ class UserServiceTest {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         final var initialUserRequestDto = new UserRequestDto("Jane Doe", "jane.doe@example.com");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.updateByUuid(any(UUID.class), isNull(), any(String.class), any(String.class))).thenReturn(Optional.empty());
 
-        assertThrows(UserNotFoundException.class, () -> service.putUserByUuid(initialUuid, initialUserRequestDto));
+        assertThrows(UserNotFoundException.class, () -> service.putUserByUuid(initialUuid, null, initialUserRequestDto));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).updateByUuid(initialUuid, null, "Jane Doe", "jane.doe@example.com");
+        verify(repository, never()).findVersionByUuid(any());
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void patchUserByUuid_whenUserExist_shouldPatchAndReturnUser() {
+    void putUserByUuid_whenVersionIsStale_shouldThrowUserVersionMismatchException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
-        final var initialUserPatchRequestDto = new UserPatchRequestDto("Jane Doe", "jane.doe@example.com");
+        final var initialUserRequestDto = new UserRequestDto("Jane Doe", "jane.doe@example.com");
 
-        final var mappedUser = new User();
-        mappedUser.setName("Jane Doe");
-        mappedUser.setEmail("jane.doe@example.com");
-        mappedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(String.class), any(String.class))).thenReturn(Optional.empty());
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.of(5L));
 
-        final var existingUser = new User();
-        existingUser.setName("John Doe");
-        existingUser.setEmail("john.doe@example.com");
-        existingUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        assertThrows(UserVersionMismatchException.class, () -> service.putUserByUuid(initialUuid, 3L, initialUserRequestDto));
+
+        verify(repository, times(1)).findVersionByUuid(initialUuid);
+        verify(mapper, never()).toResponseDto(any());
+        verify(repository, never()).evictCached(any());
+        verify(responseCache, never()).invalidateUser(any());
+    }
+
+    @Test
+    void putUserByUuid_whenVersionIsGivenAndUserDoesNotExist_shouldThrowUserNotFoundException() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final var initialUserRequestDto = new UserRequestDto("Jane Doe", "jane.doe@example.com");
+
+        when(repository.updateByUuid(any(UUID.class), anyLong(), any(String.class), any(String.class))).thenReturn(Optional.empty());
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> service.putUserByUuid(initialUuid, 3L, initialUserRequestDto));
+    }
+
+    @Test
+    void patchUserByUuid_whenUserExist_shouldPatchAndReturnUser() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        final var initialUserPatchRequestDto = new UserPatchRequestDto("Jane Doe", null);
 
         final var patchedUser = new User();
         patchedUser.setName("Jane Doe");
-        patchedUser.setEmail("jane.doe@example.com");
+        patchedUser.setEmail("john.doe@example.com");
         patchedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        patchedUser.setVersion(1L);
 
-        final var savedUser = new User();
-        savedUser.setName("Jane Doe");
-        savedUser.setEmail("jane.doe@example.com");
-        savedUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
-
-        final var expectedUserResponseDto = new UserResponseDto("Jane Doe", "jane.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        final var expectedUserResponseDto = new UserResponseDto("Jane Doe", "john.doe@example.com", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingUser));
-        when(mapper.patchUserFromDto(any(UserPatchRequestDto.class), any(User.class))).thenReturn(mappedUser);
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.patchByUuid(any(UUID.class), isNull(), any(String.class), isNull())).thenReturn(Optional.of(patchedUser));
         when(mapper.toResponseDto(any(User.class))).thenReturn(expectedUserResponseDto);
 
-        final UserResponseDto actualUserResponseDto = service.patchUserByUuid(initialUuid, initialUserPatchRequestDto);
+        final Versioned<UserResponseDto> actualUser = service.patchUserByUuid(initialUuid, null, initialUserPatchRequestDto);
 
-        assertEquals(expectedUserResponseDto, actualUserResponseDto);
+        assertEquals(new Versioned<>(expectedUserResponseDto, 1L), actualUser);
+        verify(repository, times(1)).evictCached(initialUuid);
+        verify(responseCache, times(1)).invalidateUser(initialUuid);
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
-
-        final ArgumentCaptor<UserPatchRequestDto> captorInitialUser = ArgumentCaptor.forClass(UserPatchRequestDto.class);
-        final ArgumentCaptor<User> captorExistingUser1 = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(1)).patchUserFromDto(captorInitialUser.capture(), captorExistingUser1.capture());
-        assertEquals(initialUserPatchRequestDto.name(), captorInitialUser.getValue().name());
-        assertEquals(initialUserPatchRequestDto.email(), captorInitialUser.getValue().email());
-        assertEquals(existingUser.getName(), captorExistingUser1.getValue().getName());
-        assertEquals(existingUser.getEmail(), captorExistingUser1.getValue().getEmail());
-        assertEquals(existingUser.getUuid(), captorExistingUser1.getValue().getUuid());
+        verify(repository, times(1)).patchByUuid(initialUuid, null, "Jane Doe", null);
+        verify(repository, never()).findById(any());
 
         final ArgumentCaptor<User> captorPatchedUser = ArgumentCaptor.forClass(User.class);
-        verify(repository, times(1)).save(captorPatchedUser.capture());
+        verify(mapper, times(1)).toResponseDto(captorPatchedUser.capture());
         assertEquals(patchedUser.getName(), captorPatchedUser.getValue().getName());
         assertEquals(patchedUser.getEmail(), captorPatchedUser.getValue().getEmail());
         assertEquals(patchedUser.getUuid(), captorPatchedUser.getValue().getUuid());
-
-        final ArgumentCaptor<User> captorSavedUser = ArgumentCaptor.forClass(User.class);
-        verify(mapper, times(1)).toResponseDto(captorSavedUser.capture());
-        assertEquals(savedUser.getName(), captorSavedUser.getValue().getName());
-        assertEquals(savedUser.getEmail(), captorSavedUser.getValue().getEmail());
-        assertEquals(savedUser.getUuid(), captorSavedUser.getValue().getUuid());
     }
 
     @Test
@@ -310,45 +339,47 @@ class UserServiceTest {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         final var initialUserPatchRequestDto = new UserPatchRequestDto("Jane Doe", "jane.doe@example.com");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.patchByUuid(any(UUID.class), isNull(), any(String.class), any(String.class))).thenReturn(Optional.empty());
 
-        assertThrows(UserNotFoundException.class, () -> service.patchUserByUuid(initialUuid, initialUserPatchRequestDto));
+        assertThrows(UserNotFoundException.class, () -> service.patchUserByUuid(initialUuid, null, initialUserPatchRequestDto));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).patchByUuid(initialUuid, null, "Jane Doe", "jane.doe@example.com");
+        verify(mapper, never()).toResponseDto(any());
     }
 
     @Test
-    void deleteUserByUuid_whenUserExists_shouldCallDeleteOnRepository() {
+    void deleteUserByUuid_whenUserExists_shouldDeleteWithSingleStatement() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        final var existingUser = new User();
-        existingUser.setName("John Doe");
-        existingUser.setEmail("john.doe@example.com");
-        existingUser.setUuid(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        when(repository.deleteByUuid(any(UUID.class), isNull())).thenReturn(1);
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.of(existingUser));
+        service.deleteUserByUuid(initialUuid, null);
 
-        service.deleteUserByUuid(initialUuid);
+        verify(repository, times(1)).deleteByUuid(initialUuid, null);
+        verify(repository, never()).findById(any());
+        verify(responseCache, times(1)).invalidateUser(initialUuid);
+    }
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+    @Test
+    void deleteUserByUuid_whenUserDoesNotExist_shouldThrowUserNotFoundException() {
+        final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        when(repository.deleteByUuid(any(UUID.class), isNull())).thenReturn(0);
+
+        assertThrows(UserNotFoundException.class, () -> service.deleteUserByUuid(initialUuid, null));
 
-        verify(repository, times(1)).delete(existingUser);
+        verify(repository, times(1)).deleteByUuid(initialUuid, null);
     }
 
     @Test
-    void deleteUserByUuid_whenUserDoesNotExist_shouldThrowUserNotFoundException() {
+    void deleteUserByUuid_whenVersionIsStale_shouldThrowUserVersionMismatchException() {
         final UUID initialUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
 
-        when(repository.findByUuid(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.deleteByUuid(any(UUID.class), anyLong())).thenReturn(0);
+        when(repository.findVersionByUuid(any(UUID.class))).thenReturn(Optional.of(5L));
 
-        assertThrows(UserNotFoundException.class, () -> service.deleteUserByUuid(initialUuid));
+        assertThrows(UserVersionMismatchException.class, () -> service.deleteUserByUuid(initialUuid, 3L));
 
-        final ArgumentCaptor<UUID> captorInitialUuid = ArgumentCaptor.forClass(UUID.class);
-        verify(repository, times(1)).findByUuid(captorInitialUuid.capture());
-        assertEquals(initialUuid, captorInitialUuid.getValue());
+        verify(repository, times(1)).deleteByUuid(initialUuid, 3L);
     }
 }
\ No newline at end of file